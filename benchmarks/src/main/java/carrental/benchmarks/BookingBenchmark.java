@@ -0,0 +1,95 @@
+package carrental.benchmarks;
+
+import carrental.Rental;
+import carrental.AsyncRingBufferEventSink;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Successful-booking benchmark for RentalAgency.createRental. Bookings walk the
+// fleet in order and move two days further out on each lap, so none conflict.
+// The agency is rebuilt every iteration to keep rental history from piling up.
+// The sink parameter compares silenced events with the async ring-buffer logger
+// writing to a discarding stream.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BookingBenchmark {
+    private static final int CUSTOMERS = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int fleetSize;
+
+    @Param({"42"})
+    public long seed;
+
+    @Param({"silent", "async"})
+    public String sink;
+
+    private RentalAgency agency;
+    private String[] vehicleIds;
+    private String[] customerIds;
+    private LocalDate firstDay;
+    private long bookings;
+    private AsyncRingBufferEventSink asyncSink;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        agency = new FleetGenerator(seed).populate(fleetSize, CUSTOMERS);
+        vehicleIds = new String[fleetSize];
+        for (int i = 0; i < fleetSize; i++) {
+            vehicleIds[i] = FleetGenerator.vehicleId(i);
+        }
+        customerIds = new String[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds[i] = FleetGenerator.customerId(i);
+        }
+        firstDay = LocalDate.now().plusYears(1);
+        bookings = 0;
+        if (sink.equals("async")) {
+            asyncSink = new AsyncRingBufferEventSink(1 << 16, new PrintStream(OutputStream.nullOutputStream()));
+            RentalEvents.setSink(asyncSink);
+        } else {
+            RentalEvents.setSink(RentalEventSink.SILENT);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        RentalEvents.setSink(RentalEventSink.SILENT);
+        if (asyncSink != null) {
+            asyncSink.close();
+            asyncSink = null;
+        }
+    }
+
+    @Benchmark
+    public Rental createRental() {
+        long booking = bookings++;
+        int vehicle = (int) (booking % fleetSize);
+        LocalDate start = firstDay.plusDays(2 * (booking / fleetSize));
+        return agency.createRental(customerIds[(int) (booking % CUSTOMERS)], vehicleIds[vehicle], start, start.plusDays(1));
+    }
+}
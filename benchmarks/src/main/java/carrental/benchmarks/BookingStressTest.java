@@ -0,0 +1,119 @@
+package carrental.benchmarks;
+
+import carrental.Car;
+import carrental.Customer;
+import carrental.Rental;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.Vehicle;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Multi-threaded stress check for RentalAgency.createRental.
+// Many threads book a handful of vehicles over overlapping dates at once; the run
+// fails if any vehicle ends up double-booked or any rental ID is handed out twice.
+// Usage: java -cp benchmarks.jar carrental.benchmarks.BookingStressTest [threads] [attemptsPerThread] [vehicles]
+public class BookingStressTest {
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 4;
+        int attemptsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int vehicles = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+        RentalAgency agency = new RentalAgency("Stress Test Rentals", "1 Test Way", "555-0000");
+        RentalEvents.setSink(RentalEventSink.SILENT);
+        for (int i = 0; i < vehicles; i++) {
+            agency.addVehicle(new Car("CAR" + i, "Toyota", "Camry", 2022, "Silver", 1000, 40.0,
+                    4, "Gasoline", "Automatic", true));
+        }
+        for (int i = 0; i < threads; i++) {
+            agency.registerCustomer(new Customer("CUST" + i, "Stress", "Tester" + i, "t" + i + "@test.com",
+                    "5550000000", "LIC" + i, 30, true, Double.MAX_VALUE));
+        }
+
+        LocalDate today = LocalDate.now();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            String customerId = "CUST" + t;
+            Random random = new Random(t);
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    LocalDate from = today.plusDays(1 + random.nextInt(365));
+                    LocalDate to = from.plusDays(1 + random.nextInt(7));
+                    agency.createRental(customerId, "CAR" + random.nextInt(vehicles), from, to);
+                }
+            });
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        int failures = verify(agency);
+        System.out.println("Threads: " + threads + ", attempts: " + (threads * attemptsPerThread)
+                + ", vehicles: " + vehicles);
+        System.out.println("Rentals created: " + agency.getRentals().size() + " in " + elapsedMillis + " ms");
+        if (failures > 0) {
+            System.out.println("FAILED: " + failures + " double booking(s) or duplicate rental ID(s)");
+            System.exit(1);
+        }
+        System.out.println("PASSED: no double bookings, no duplicate rental IDs");
+    }
+
+    // Method to check every pair of rentals on the same vehicle for overlap
+    private static int verify(RentalAgency agency) {
+        int failures = 0;
+        Set<String> rentalIds = new HashSet<>();
+        List<Rental> rentals = agency.getRentals();
+        synchronized (rentals) {
+            for (Rental rental : rentals) {
+                if (!rentalIds.add(rental.getRentalId())) {
+                    failures++;
+                }
+            }
+            for (int i = 0; i < rentals.size(); i++) {
+                Rental a = rentals.get(i);
+                for (int j = i + 1; j < rentals.size(); j++) {
+                    Rental b = rentals.get(j);
+                    if (a.getVehicle() == b.getVehicle()
+                            && a.getStartDate().isBefore(b.getEndDate())
+                            && b.getStartDate().isBefore(a.getEndDate())) {
+                        failures++;
+                    }
+                }
+            }
+        }
+        for (Vehicle vehicle : agency.getFleet()) {
+            failures += Math.abs(vehicle.getReservationCalendar().getReservationCount() - countRentals(rentals, vehicle));
+        }
+        return failures;
+    }
+
+    private static int countRentals(List<Rental> rentals, Vehicle vehicle) {
+        int count = 0;
+        synchronized (rentals) {
+            for (Rental rental : rentals) {
+                if (rental.getVehicle() == vehicle) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
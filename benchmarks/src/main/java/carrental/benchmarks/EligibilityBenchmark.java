@@ -0,0 +1,76 @@
+package carrental.benchmarks;
+
+import carrental.BookingStatus;
+import carrental.Customer;
+import carrental.FleetEligibility;
+import carrental.RentalAgency;
+import carrental.Vehicle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// "Which vehicles can this customer rent for N days" over the whole fleet: one
+// Customer.checkEligibility call per available vehicle vs the agency's batch check.
+// The customer has no motorcycle license and a credit limit that rules out the
+// dearer vehicles, so every rejection reason shows up.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EligibilityBenchmark {
+    @Param({"10000", "100000"})
+    public int fleetSize;
+
+    private static final int DAYS = 7;
+
+    private RentalAgency agency;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        agency = new FleetGenerator(42).populate(fleetSize, 0);
+        customer = new Customer("ELIGIBLE", "Eli", "Gible", "eli@example.com", "5550000000", "LIC0", 30, false, 1500);
+        agency.registerCustomer(customer);
+        // Rent out a tenth of the fleet
+        for (int i = 0; i < fleetSize; i += 10) {
+            agency.findVehicle(FleetGenerator.vehicleId(i)).setAvailable(false);
+        }
+        agency.checkEligibility(customer.getCustomerId(), DAYS);
+    }
+
+    @Benchmark
+    public List<Vehicle> perVehicle() {
+        List<Vehicle> rentable = new ArrayList<>();
+        for (Vehicle vehicle : agency.getAvailableVehicles()) {
+            if (customer.checkEligibility(vehicle, vehicle.calculateRentalPrice(DAYS)) == BookingStatus.ACCEPTED) {
+                rentable.add(vehicle);
+            }
+        }
+        return rentable;
+    }
+
+    @Benchmark
+    public FleetEligibility batch() {
+        return agency.checkEligibility(customer.getCustomerId(), DAYS);
+    }
+
+    @Benchmark
+    public List<Vehicle> batchRentableList() {
+        return agency.checkEligibility(customer.getCustomerId(), DAYS).getRentableVehicles();
+    }
+}
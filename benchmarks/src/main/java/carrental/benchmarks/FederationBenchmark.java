@@ -0,0 +1,82 @@
+package carrental.benchmarks;
+
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.RentalFederation;
+import carrental.Vehicle;
+import carrental.VehicleQuery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The same fleet split across 1 to 8 branches: fan-out search time should fall
+// with the branch count (up to the number of cores), while a routed lookup
+// should not depend on it at all.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class FederationBenchmark {
+    @Param({"1", "2", "4", "8"})
+    public int branches;
+
+    @Param({"100000"})
+    public int fleetSize;
+
+    private RentalFederation federation;
+    private VehicleQuery query;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        FleetGenerator generator = new FleetGenerator(42);
+        federation = new RentalFederation();
+        RentalEventSink sink = RentalEvents.getSink();
+        RentalEvents.setSink(RentalEventSink.SILENT);
+        try {
+            for (int b = 0; b < branches; b++) {
+                federation.addBranch("B" + b, new RentalAgency("Branch " + b, "1 Bench Street", "555-0100"));
+            }
+            for (int i = 0; i < fleetSize; i++) {
+                federation.addVehicle("B" + (i % branches), generator.nextVehicle(i));
+            }
+            for (int i = 0; i < fleetSize / 10; i++) {
+                federation.registerCustomer("B" + (i % branches), generator.nextCustomer(i));
+            }
+        } finally {
+            RentalEvents.setSink(sink);
+        }
+        query = new VehicleQuery().priceBetween(30, 60).yearBetween(2019, 2024).maxMileage(60_000).availableOnly();
+    }
+
+    @Benchmark
+    public List<Vehicle> fanOutSearch() {
+        return federation.searchVehicles(query);
+    }
+
+    @Benchmark
+    public List<Vehicle> fanOutAvailable() {
+        return federation.getAvailableVehicles();
+    }
+
+    @Benchmark
+    public Vehicle routedLookup() {
+        probe = (probe + 7919) % fleetSize;
+        return federation.findVehicle(FleetGenerator.vehicleId(probe));
+    }
+}
@@ -0,0 +1,157 @@
+package carrental.benchmarks;
+
+import carrental.Car;
+import carrental.Customer;
+import carrental.Rental;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.RentalFederation;
+import carrental.RentalJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Restart check for RentalFederation. Many threads book across journaled branches,
+// then every branch is replayed into a fresh agency and added to a new federation,
+// and the threads book again. The run fails if a rental ID is handed out twice or
+// a restored rental is lost or replaced by a new one.
+// Usage: java -cp benchmarks.jar carrental.benchmarks.FederationStressTest [threads] [attemptsPerThread] [branches]
+public class FederationStressTest {
+    private static final int VEHICLES_PER_BRANCH = 8;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 4;
+        int attemptsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int branchCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        RentalEvents.setSink(RentalEventSink.SILENT);
+        Path directory = Files.createTempDirectory("federation-stress");
+        try {
+            // First run: a fresh federation with every branch journaled
+            RentalFederation federation = new RentalFederation();
+            List<RentalJournal> journals = new ArrayList<>();
+            for (int b = 0; b < branchCount; b++) {
+                RentalAgency agency = new RentalAgency("Branch " + b, b + " Test Way", "555-000" + b);
+                RentalJournal journal = new RentalJournal(directory.resolve("B" + b + ".journal"));
+                agency.attachJournal(journal);
+                journals.add(journal);
+                federation.addBranch("B" + b, agency);
+                for (int i = 0; i < VEHICLES_PER_BRANCH; i++) {
+                    federation.addVehicle("B" + b, new Car("CAR" + b + "-" + i, "Toyota", "Camry", 2022,
+                            "Silver", 1000, 40.0, 4, "Gasoline", "Automatic", true));
+                }
+            }
+            for (int i = 0; i < threads; i++) {
+                federation.registerCustomer("B" + (i % branchCount), new Customer("CUST" + i, "Stress",
+                        "Tester" + i, "t" + i + "@test.com", "5550000000", "LIC" + i, 30, true, Double.MAX_VALUE));
+            }
+            book(federation, threads, attemptsPerThread, branchCount, 0);
+            Map<String, String> before = rentalVehicles(federation);
+            for (RentalJournal journal : journals) {
+                journal.close();
+            }
+
+            // Restart: replay each journal into a fresh agency, then rebuild the federation
+            RentalFederation restarted = new RentalFederation();
+            for (int b = 0; b < branchCount; b++) {
+                RentalAgency agency = new RentalAgency("Branch " + b, b + " Test Way", "555-000" + b);
+                RentalJournal.replay(directory.resolve("B" + b + ".journal"), agency);
+                restarted.addBranch("B" + b, agency);
+            }
+            int failures = 0;
+            for (Map.Entry<String, String> entry : before.entrySet()) {
+                Rental rental = restarted.findRental(entry.getKey());
+                if (rental == null || !rental.getVehicle().getVehicleId().equals(entry.getValue())) {
+                    failures++;
+                }
+            }
+            book(restarted, threads, attemptsPerThread, branchCount, threads);
+            Map<String, String> after = rentalVehicles(restarted);
+            for (Map.Entry<String, String> entry : before.entrySet()) {
+                if (!entry.getValue().equals(after.get(entry.getKey()))) {
+                    failures++;
+                }
+            }
+            failures += countDuplicateIds(restarted);
+
+            System.out.println("Threads: " + threads + ", attempts per run: " + (threads * attemptsPerThread)
+                    + ", branches: " + branchCount);
+            System.out.println("Rentals before restart: " + before.size() + ", after: " + after.size());
+            if (failures > 0) {
+                System.out.println("FAILED: " + failures + " lost rental(s) or duplicate rental ID(s)");
+                System.exit(1);
+            }
+            System.out.println("PASSED: every rental survived the restart, no duplicate rental IDs");
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    // Method to book random vehicles across every branch from many threads at once
+    private static void book(RentalFederation federation, int threads, int attemptsPerThread,
+                             int branchCount, int seed) throws InterruptedException {
+        LocalDate today = LocalDate.now();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            String customerId = "CUST" + t;
+            Random random = new Random(seed + t);
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    LocalDate from = today.plusDays(1 + random.nextInt(365));
+                    LocalDate to = from.plusDays(1 + random.nextInt(7));
+                    String vehicleId = "CAR" + random.nextInt(branchCount) + "-" + random.nextInt(VEHICLES_PER_BRANCH);
+                    federation.createRental(customerId, vehicleId, from, to);
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.MINUTES);
+    }
+
+    // Method to map every rental ID in the federation to the vehicle it books
+    private static Map<String, String> rentalVehicles(RentalFederation federation) {
+        Map<String, String> vehicles = new HashMap<>();
+        for (RentalAgency branch : federation.getBranches()) {
+            List<Rental> rentals = branch.getRentals();
+            synchronized (rentals) {
+                for (Rental rental : rentals) {
+                    vehicles.put(rental.getRentalId(), rental.getVehicle().getVehicleId());
+                }
+            }
+        }
+        return vehicles;
+    }
+
+    private static int countDuplicateIds(RentalFederation federation) {
+        int total = 0;
+        for (RentalAgency branch : federation.getBranches()) {
+            total += branch.getRentals().size();
+        }
+        return total - rentalVehicles(federation).size();
+    }
+}
@@ -0,0 +1,80 @@
+package carrental.benchmarks;
+
+import carrental.Car;
+import carrental.Customer;
+import carrental.Motorcycle;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.Vehicle;
+
+import java.util.Random;
+
+// Seeded data generator so every benchmark run sees the same fleet and customers.
+// Vehicle IDs are "V" + index and customer IDs are "C" + index.
+public class FleetGenerator {
+    private static final String[] CAR_BRANDS = {"Toyota", "Honda", "Ford", "BMW", "Tesla", "Hyundai", "Kia", "Audi"};
+    private static final String[] CAR_MODELS = {"Camry", "Civic", "Focus", "320i", "Model 3", "Elantra", "Rio", "A4"};
+    private static final String[] MOTO_BRANDS = {"Yamaha", "Honda", "Ducati", "Harley-Davidson", "Kawasaki", "BMW"};
+    private static final String[] MOTO_MODELS = {"MT-07", "CB500F", "Monster", "Street 750", "Ninja 400", "R 1250"};
+    private static final String[] COLORS = {"Black", "White", "Silver", "Red", "Blue", "Grey"};
+    private static final String[] FUEL_TYPES = {"Gasoline", "Diesel", "Electric", "Hybrid"};
+    private static final String[] TRANSMISSIONS = {"Automatic", "Manual"};
+    private static final String[] MOTO_TYPES = {"Sport", "Cruiser", "Standard", "Touring"};
+    private static final int[] ENGINE_SIZES = {125, 300, 400, 650, 750, 1000, 1250};
+
+    private final Random random;
+
+    public FleetGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    // Roughly one vehicle in four is a motorcycle
+    public Vehicle nextVehicle(int index) {
+        String vehicleId = vehicleId(index);
+        int year = 2015 + random.nextInt(10);
+        String color = pick(COLORS);
+        double mileage = random.nextInt(120_000);
+        double basePrice = 20 + random.nextInt(80);
+        if (random.nextInt(4) == 0) {
+            return new Motorcycle(vehicleId, pick(MOTO_BRANDS), pick(MOTO_MODELS), year, color, mileage, basePrice,
+                    ENGINE_SIZES[random.nextInt(ENGINE_SIZES.length)], pick(MOTO_TYPES),
+                    random.nextInt(10) == 0, random.nextBoolean());
+        }
+        return new Car(vehicleId, pick(CAR_BRANDS), pick(CAR_MODELS), year, color, mileage, basePrice,
+                random.nextBoolean() ? 4 : 2, pick(FUEL_TYPES), pick(TRANSMISSIONS), random.nextInt(5) != 0);
+    }
+
+    public Customer nextCustomer(int index) {
+        return new Customer(customerId(index), "First" + index, "Last" + index, "customer" + index + "@example.com",
+                "555" + String.format("%07d", index % 10_000_000), "LIC" + index, 18 + random.nextInt(60),
+                random.nextBoolean(), 1_000_000 + random.nextInt(1_000_000));
+    }
+
+    // Method to build a populated agency with events silenced
+    public RentalAgency populate(int fleetSize, int customerCount) {
+        RentalAgency agency = new RentalAgency("Benchmark Rentals", "1 Bench Street", "555-0100");
+        RentalEventSink sink = RentalEvents.getSink();
+        RentalEvents.setSink(RentalEventSink.SILENT);
+        try {
+            for (int i = 0; i < fleetSize; i++) {
+                agency.addVehicle(nextVehicle(i));
+            }
+            for (int i = 0; i < customerCount; i++) {
+                agency.registerCustomer(nextCustomer(i));
+            }
+        } finally {
+            RentalEvents.setSink(sink);
+        }
+        return agency;
+    }
+
+    public Random getRandom() { return random; }
+
+    public static String vehicleId(int index) { return "V" + index; }
+    public static String customerId(int index) { return "C" + index; }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,96 @@
+package carrental.benchmarks;
+
+import carrental.Car;
+import carrental.ColumnarFleetStore;
+import carrental.Motorcycle;
+import carrental.Vehicle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Heap used per vehicle by the searchable attributes: the Vehicle objects, built
+// from their own String copies (as when loaded from a file) that the symbol table
+// folds into shared instances, vs the columns of a ColumnarFleetStore. Also
+// measures the per-vehicle attribute strings the vehicles would hold without the
+// symbol table. Run with: java -cp benchmarks/target/benchmarks.jar
+// carrental.benchmarks.FleetHeapReport [fleetSize]
+public class FleetHeapReport {
+    public static void main(String[] args) {
+        int fleetSize = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        FleetGenerator generator = new FleetGenerator(42);
+
+        long baseline = usedHeap();
+        List<Vehicle> vehicles = new ArrayList<>(fleetSize);
+        for (int i = 0; i < fleetSize; i++) {
+            vehicles.add(withOwnStrings(generator.nextVehicle(i)));
+        }
+        long objectBytes = usedHeap() - baseline;
+
+        baseline = usedHeap();
+        ColumnarFleetStore store = new ColumnarFleetStore();
+        for (Vehicle vehicle : vehicles) {
+            store.add(vehicle);
+        }
+        long columnarBytes = usedHeap() - baseline;
+
+        // What each vehicle kept before its attribute strings were encoded
+        baseline = usedHeap();
+        List<String[]> copies = new ArrayList<>(fleetSize);
+        for (Vehicle vehicle : vehicles) {
+            copies.add(attributeCopies(vehicle));
+        }
+        long copyBytes = usedHeap() - baseline;
+
+        System.out.println("Vehicles:                  " + store.size());
+        System.out.printf("Vehicle objects:           %,d bytes (%d per vehicle)%n", objectBytes, objectBytes / fleetSize);
+        System.out.printf("Columnar store:            %,d bytes (%d per vehicle)%n", columnarBytes, columnarBytes / fleetSize);
+        System.out.printf("Columnar / object ratio:   %.2f%n", (double) columnarBytes / objectBytes);
+        System.out.printf("Attribute string copies:   %,d bytes (%d per vehicle) for %d copies of %d distinct values%n",
+                copyBytes, copyBytes / fleetSize, copies.size() * ATTRIBUTES_PER_VEHICLE, Vehicle.SYMBOLS.size());
+    }
+
+    // Copies every string so vehicles do not share the generator's literals
+    private static Vehicle withOwnStrings(Vehicle vehicle) {
+        if (vehicle instanceof Motorcycle) {
+            Motorcycle motorcycle = (Motorcycle) vehicle;
+            return new Motorcycle(copy(vehicle.getVehicleId()), copy(vehicle.getBrand()), copy(vehicle.getModel()),
+                    vehicle.getYear(), copy(vehicle.getColor()), vehicle.getMileage(), vehicle.getBasePricePerDay(),
+                    motorcycle.getEngineSize(), copy(motorcycle.getMotorcycleType()), motorcycle.hasSidecar(),
+                    motorcycle.requiresSpecialLicense());
+        }
+        Car car = (Car) vehicle;
+        return new Car(copy(vehicle.getVehicleId()), copy(vehicle.getBrand()), copy(vehicle.getModel()),
+                vehicle.getYear(), copy(vehicle.getColor()), vehicle.getMileage(), vehicle.getBasePricePerDay(),
+                car.getNumberOfDoors(), copy(car.getFuelType()), copy(car.getTransmissionType()),
+                car.hasAirConditioning());
+    }
+
+    private static final int ATTRIBUTES_PER_VEHICLE = 5;
+
+    // Brand, model, color and the two type-specific strings (one for motorcycles, plus the unused slot)
+    private static String[] attributeCopies(Vehicle vehicle) {
+        String[] copies = new String[ATTRIBUTES_PER_VEHICLE];
+        copies[0] = copy(vehicle.getBrand());
+        copies[1] = copy(vehicle.getModel());
+        copies[2] = copy(vehicle.getColor());
+        if (vehicle instanceof Car) {
+            copies[3] = copy(((Car) vehicle).getFuelType());
+            copies[4] = copy(((Car) vehicle).getTransmissionType());
+        } else {
+            copies[3] = copy(((Motorcycle) vehicle).getMotorcycleType());
+        }
+        return copies;
+    }
+
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,96 @@
+package carrental.benchmarks;
+
+import carrental.Car;
+import carrental.Customer;
+import carrental.FleetImporter;
+import carrental.ImportReport;
+import carrental.Motorcycle;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.Vehicle;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Writes a generated fleet and customer base to CSV files and bulk-imports them
+// into an empty agency, printing rows per second for each file.
+// Usage: java -Xmx4g -cp benchmarks.jar carrental.benchmarks.FleetImportReport [vehicles] [rounds]
+public class FleetImportReport {
+    public static void main(String[] args) throws IOException {
+        int vehicles = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int customers = Math.max(1, vehicles / 10);
+
+        Path vehicleFile = Files.createTempFile("fleet", ".csv");
+        Path customerFile = Files.createTempFile("customers", ".csv");
+        try {
+            FleetGenerator generator = new FleetGenerator(42);
+            writeVehicles(generator, vehicles, vehicleFile);
+            writeCustomers(generator, customers, customerFile);
+            System.out.printf("Vehicle file: %d rows, %.1f MB; customer file: %d rows%n",
+                    vehicles, Files.size(vehicleFile) / 1e6, customers);
+
+            RentalEvents.setSink(RentalEventSink.SILENT);
+            // Later rounds run with a warmed-up JIT
+            for (int round = 1; round <= rounds; round++) {
+                RentalAgency agency = new RentalAgency("Import Rentals", "1 Bench Street", "555-0100");
+                FleetImporter importer = new FleetImporter(agency);
+                ImportReport vehicleReport = importer.importVehicles(vehicleFile);
+                ImportReport customerReport = importer.importCustomers(customerFile);
+                System.out.println("Round " + round + " vehicles:  " + vehicleReport);
+                System.out.println("Round " + round + " customers: " + customerReport);
+            }
+        } finally {
+            Files.deleteIfExists(vehicleFile);
+            Files.deleteIfExists(customerFile);
+        }
+    }
+
+    private static void writeVehicles(FleetGenerator generator, int count, Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(FleetImporter.VEHICLE_HEADER);
+            out.newLine();
+            StringBuilder row = new StringBuilder(160);
+            for (int i = 0; i < count; i++) {
+                Vehicle vehicle = generator.nextVehicle(i);
+                row.setLength(0);
+                row.append(vehicle.getType().getDisplayName()).append(',').append(vehicle.getVehicleId()).append(',')
+                        .append(vehicle.getBrand()).append(',').append(vehicle.getModel()).append(',')
+                        .append(vehicle.getYear()).append(',').append(vehicle.getColor()).append(',')
+                        .append(vehicle.getMileage()).append(',').append(vehicle.getBasePricePerDay()).append(',');
+                if (vehicle instanceof Car) {
+                    Car car = (Car) vehicle;
+                    row.append(car.getNumberOfDoors()).append(',').append(car.getFuelType()).append(',')
+                            .append(car.getTransmissionType()).append(',').append(car.hasAirConditioning())
+                            .append(",,,,");
+                } else {
+                    Motorcycle motorcycle = (Motorcycle) vehicle;
+                    row.append(",,,,").append(motorcycle.getEngineSize()).append(',')
+                            .append(motorcycle.getMotorcycleType()).append(',').append(motorcycle.hasSidecar())
+                            .append(',').append(motorcycle.requiresSpecialLicense());
+                }
+                out.append(row);
+                out.newLine();
+            }
+        }
+    }
+
+    private static void writeCustomers(FleetGenerator generator, int count, Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(FleetImporter.CUSTOMER_HEADER);
+            out.newLine();
+            for (int i = 0; i < count; i++) {
+                Customer customer = generator.nextCustomer(i);
+                out.write(String.join(",", customer.getCustomerId(), customer.getFirstName(), customer.getLastName(),
+                        customer.getEmail(), customer.getPhoneNumber(), customer.getLicenseNumber(),
+                        String.valueOf(customer.getAge()), String.valueOf(customer.hasMotorcycleLicense()),
+                        String.valueOf(customer.getCreditLimit())));
+                out.newLine();
+            }
+        }
+    }
+}
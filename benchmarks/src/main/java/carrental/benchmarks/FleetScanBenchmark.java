@@ -0,0 +1,66 @@
+package carrental.benchmarks;
+
+import carrental.ColumnarFleetStore;
+import carrental.RentalAgency;
+import carrental.Vehicle;
+import carrental.VehicleQuery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Filtering the fleet by price, year and mileage: scanning the vehicle
+// objects vs scanning the columns of a ColumnarFleetStore
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class FleetScanBenchmark {
+    @Param({"100000", "1000000"})
+    public int fleetSize;
+
+    private RentalAgency objectAgency;
+    private RentalAgency columnarAgency;
+    private VehicleQuery query;
+
+    @Setup
+    public void setUp() {
+        objectAgency = new FleetGenerator(42).populate(fleetSize, 0);
+        columnarAgency = new FleetGenerator(42).populate(fleetSize, 0);
+        columnarAgency.attachFleetStore(new ColumnarFleetStore());
+        query = new VehicleQuery().priceBetween(30, 60).yearBetween(2019, 2024).maxMileage(60_000).availableOnly();
+    }
+
+    @Benchmark
+    public List<Vehicle> objectScan() {
+        return objectAgency.searchVehicles(query);
+    }
+
+    @Benchmark
+    public List<Vehicle> columnarScan() {
+        return columnarAgency.searchVehicles(query);
+    }
+
+    @Benchmark
+    public List<Vehicle> objectScanByBrandAndColor() {
+        return objectAgency.searchVehicles(new VehicleQuery().brand("Tesla").color("Red").maxMileage(50_000));
+    }
+
+    @Benchmark
+    public List<Vehicle> columnarScanByBrandAndColor() {
+        return columnarAgency.searchVehicles(new VehicleQuery().brand("Tesla").color("Red").maxMileage(50_000));
+    }
+}
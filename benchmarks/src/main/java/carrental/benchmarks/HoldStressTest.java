@@ -0,0 +1,154 @@
+package carrental.benchmarks;
+
+import carrental.Car;
+import carrental.Customer;
+import carrental.CustomerLedger;
+import carrental.HoldResult;
+import carrental.LatencyHistogram;
+import carrental.Rental;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEventType;
+import carrental.RentalEvents;
+import carrental.RentalHold;
+import carrental.Vehicle;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Flash-sale check for vehicle holds. Many shoppers hold a few vehicles over the
+// same handful of dates; most abandon their carts, some release them and a few
+// confirm. Prints how many holds each outcome got and how long after its deadline
+// an abandoned hold was reclaimed, then fails if any vehicle, date or credit is
+// still claimed by a hold once every TTL has passed.
+// Usage: java -cp benchmarks.jar carrental.benchmarks.HoldStressTest [threads] [seconds] [vehicles] [ttlMillis]
+public class HoldStressTest {
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 8;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int vehicles = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        int ttlMillis = args.length > 3 ? Integer.parseInt(args[3]) : 250;
+
+        RentalAgency agency = new RentalAgency("Flash Sale Rentals", "1 Test Way", "555-0000");
+        RentalEvents.setSink(RentalEventSink.SILENT);
+        for (int i = 0; i < vehicles; i++) {
+            agency.addVehicle(new Car("CAR" + i, "Toyota", "Camry", 2022, "Silver", 1000, 40.0,
+                    4, "Gasoline", "Automatic", true));
+        }
+        for (int i = 0; i < threads; i++) {
+            agency.registerCustomer(new Customer("CUST" + i, "Flash", "Shopper" + i, "s" + i + "@test.com",
+                    "5550000000", "LIC" + i, 30, true, Double.MAX_VALUE));
+        }
+
+        // Expiry events are published on the reaper thread right after the hold is freed
+        LatencyHistogram reclaimLag = new LatencyHistogram();
+        RentalEvents.setSink(event -> {
+            if (event.getType() == RentalEventType.HOLD_EXPIRED) {
+                reclaimLag.record(System.nanoTime() - ((RentalHold) event.getSubject()).getExpiresAt());
+            }
+        });
+
+        LongAdder refused = new LongAdder();
+        LongAdder confirmed = new LongAdder();
+        LongAdder released = new LongAdder();
+        LongAdder abandoned = new LongAdder();
+        LocalDate saleDay = LocalDate.now().plusDays(30);
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            String customerId = "CUST" + t;
+            Random random = new Random(t);
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (System.nanoTime() < deadline) {
+                    LocalDate from = saleDay.plusDays(random.nextInt(7));
+                    HoldResult result = agency.holdVehicle(customerId, "CAR" + random.nextInt(vehicles), from,
+                            from.plusDays(1), ttl);
+                    if (!result.isAccepted()) {
+                        refused.increment();
+                        continue;
+                    }
+                    int choice = random.nextInt(100);
+                    if (choice < 2) {
+                        if (agency.confirmHold(result.getHold().getHoldId()) != null) {
+                            confirmed.increment();
+                        }
+                    } else if (choice < 20) {
+                        agency.releaseHold(result.getHold().getHoldId());
+                        released.increment();
+                    } else {
+                        abandoned.increment();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.MINUTES);
+        // Every hold is due by now plus one TTL; allow the reaper a few ticks on top
+        Thread.sleep(ttlMillis + 500);
+        RentalEvents.setSink(RentalEventSink.SILENT);
+
+        System.out.println("Threads: " + threads + ", seconds: " + seconds + ", vehicles: " + vehicles
+                + ", TTL: " + ttlMillis + " ms");
+        System.out.println("Holds placed: " + (confirmed.sum() + released.sum() + abandoned.sum())
+                + " (confirmed " + confirmed.sum() + ", released " + released.sum() + ", abandoned "
+                + abandoned.sum() + "), refused: " + refused.sum());
+        System.out.printf("Abandoned holds reclaimed %d times, after their deadline by p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                reclaimLag.getCount(), reclaimLag.getValueAtPercentile(50) / 1e6,
+                reclaimLag.getValueAtPercentile(99) / 1e6, reclaimLag.getMax() / 1e6);
+
+        int failures = verify(agency);
+        agency.close();
+        if (failures > 0) {
+            System.out.println("FAILED: " + failures + " claim(s) left behind by ended holds");
+            System.exit(1);
+        }
+        System.out.println("PASSED: every unconfirmed hold gave back its dates, vehicle and credit");
+    }
+
+    // Only confirmed rentals may still hold dates or credit
+    private static int verify(RentalAgency agency) {
+        int failures = agency.getActiveHoldCount();
+        List<Rental> rentals = agency.getRentals();
+        long rentalCents = 0;
+        synchronized (rentals) {
+            for (Rental rental : rentals) {
+                rentalCents += CustomerLedger.toCents(rental.getTotalCost());
+            }
+        }
+        long heldCents = 0;
+        synchronized (agency.getCustomers()) {
+            for (Customer customer : agency.getCustomers()) {
+                heldCents += customer.getLedger().getHeldCents();
+            }
+        }
+        if (heldCents != rentalCents) {
+            failures++;
+        }
+        int reservations = 0;
+        synchronized (agency.getFleet()) {
+            for (Vehicle vehicle : agency.getFleet()) {
+                reservations += vehicle.getReservationCalendar().getReservationCount();
+                if (!vehicle.isAvailable()) {
+                    failures++;
+                }
+            }
+        }
+        return failures + Math.abs(reservations - rentals.size());
+    }
+}
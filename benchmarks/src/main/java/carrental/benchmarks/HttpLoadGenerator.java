@@ -0,0 +1,176 @@
+package carrental.benchmarks;
+
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.RentalHttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Closed-loop load generator for RentalHttpServer. Starts the server in-process on a
+// free port over a generated fleet, then runs a number of client threads that each
+// send one request at a time for a fixed duration: mostly quotes, plus searches,
+// bookings and statistics. Prints throughput and latency percentiles. Clients use
+// blocking keep-alive HttpURLConnections, which cost the client side far less CPU
+// than java.net.http.HttpClient and so disturb the server less on small machines.
+// Usage: java -cp benchmarks.jar carrental.benchmarks.HttpLoadGenerator [clients] [seconds] [fleetSize]
+public class HttpLoadGenerator {
+    private static final String[] BRANDS = {"Toyota", "Honda", "Ford", "BMW", "Tesla", "Hyundai", "Kia", "Audi"};
+    private static final String[] COLORS = {"Black", "White", "Silver", "Red", "Blue", "Grey"};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int fleetSize = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int customers = Math.max(1, fleetSize / 10);
+
+        RentalAgency agency = new FleetGenerator(42).populate(fleetSize, customers);
+        RentalEvents.setSink(RentalEventSink.SILENT);
+        try (RentalHttpServer server = new RentalHttpServer(agency, 0)) {
+            server.start();
+            String base = "http://localhost:" + server.getPort();
+
+            // Warm up the JIT and the keep-alive connections before measuring
+            run(base, clients, 5, fleetSize, customers);
+            Result result = run(base, clients, seconds, fleetSize, customers);
+
+            long[] latencies = result.latencies;
+            Arrays.sort(latencies);
+            System.out.println("Server threads: " + (server.isVirtualThreads() ? "virtual" : "platform (cached pool)"));
+            System.out.println("Clients: " + clients + ", duration: " + seconds + " s, fleet: " + fleetSize);
+            System.out.println("Requests: " + latencies.length + " (" + result.errors + " errors)");
+            System.out.printf("Throughput: %.0f requests/s%n", latencies.length / (double) seconds);
+            System.out.printf("Latency ms: p50 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                    latencies.length > 0 ? latencies[latencies.length - 1] / 1e6 : 0.0);
+            System.out.println("Rentals created: " + agency.getTotalRentalCount());
+        }
+    }
+
+    private static Result run(String base, int clients, int seconds, int fleetSize, int customers)
+            throws InterruptedException {
+        long[][] perClient = new long[clients][];
+        int[] counts = new int[clients];
+        int[] errors = new int[clients];
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch done = new CountDownLatch(clients);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            int id = c;
+            pool.execute(() -> {
+                Random random = new Random(id);
+                long[] latencies = new long[1024];
+                int count = 0;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = sendNextRequest(base, random, fleetSize, customers);
+                        } catch (IOException e) {
+                            status = 599;
+                        }
+                        long elapsed = System.nanoTime() - start;
+                        // 404 and 409 are normal answers (unknown IDs, vehicle already booked)
+                        if (status >= 500 || status == 400) {
+                            errors[id]++;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = elapsed;
+                    }
+                } finally {
+                    perClient[id] = latencies;
+                    counts[id] = count;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        pool.shutdown();
+
+        int total = 0;
+        int errorTotal = 0;
+        for (int c = 0; c < clients; c++) {
+            total += counts[c];
+            errorTotal += errors[c];
+        }
+        long[] all = new long[total];
+        int at = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(perClient[c], 0, all, at, counts[c]);
+            at += counts[c];
+        }
+        return new Result(all, errorTotal);
+    }
+
+    // 60% quotes, 20% searches, 15% bookings, 5% statistics; returns the status code
+    private static int sendNextRequest(String base, Random random, int fleetSize, int customers)
+            throws IOException {
+        int roll = random.nextInt(100);
+        String vehicleId = FleetGenerator.vehicleId(random.nextInt(fleetSize));
+        if (roll < 60) {
+            return send(base + "/quote?vehicleId=" + vehicleId + "&days=" + (1 + random.nextInt(14)), null);
+        } else if (roll < 80) {
+            return send(base + "/vehicles?type=Car&brand=" + BRANDS[random.nextInt(BRANDS.length)]
+                    + "&color=" + COLORS[random.nextInt(COLORS.length)] + "&maxMileage=20000", null);
+        } else if (roll < 95) {
+            LocalDate start = LocalDate.now().plusDays(1 + random.nextInt(365));
+            return send(base + "/rentals", "customerId=" + FleetGenerator.customerId(random.nextInt(customers))
+                    + "&vehicleId=" + vehicleId + "&start=" + start + "&end=" + start.plusDays(1 + random.nextInt(7)));
+        }
+        return send(base + "/statistics", null);
+    }
+
+    // GET, or POST when a form is given; the body is read fully so the connection is reused
+    private static int send(String url, String form) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        if (form != null) {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(form.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        if (body != null) {
+            try (InputStream in = body) {
+                in.readAllBytes();
+            }
+        }
+        return status;
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class Result {
+        final long[] latencies;
+        final int errors;
+
+        Result(long[] latencies, int errors) {
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+    }
+}
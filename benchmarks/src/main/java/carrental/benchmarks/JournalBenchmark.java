@@ -0,0 +1,102 @@
+package carrental.benchmarks;
+
+import carrental.Rental;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.RentalJournal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Journaled bookings per second. Every booking waits for its fsync; with many
+// threads the group commit lets one fsync cover all bookings queued behind it.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalBenchmark {
+    private static final int FLEET_SIZE = 10_000;
+    private static final int CUSTOMERS = 1000;
+    private static final int MAX_THREADS = 64;
+
+    private RentalAgency agency;
+    private RentalJournal journal;
+    private Path directory;
+    private AtomicInteger threadIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        agency = new FleetGenerator(42).populate(FLEET_SIZE, CUSTOMERS);
+        directory = Files.createTempDirectory("rental-journal-bench");
+        journal = new RentalJournal(directory.resolve("bench.journal"));
+        agency.attachJournal(journal);
+        threadIds = new AtomicInteger();
+        RentalEvents.setSink(RentalEventSink.SILENT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.println("\nJournal records: " + journal.getRecordCount()
+                + ", fsyncs: " + journal.getGroupCommitCount());
+        journal.close();
+        Path file = journal.getPath();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    // Each thread books its own slice of the fleet so bookings never conflict
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int thread;
+        private long bookings;
+        private LocalDate firstDay;
+
+        @Setup(Level.Trial)
+        public void setUp(JournalBenchmark benchmark) {
+            thread = benchmark.threadIds.getAndIncrement() % MAX_THREADS;
+            firstDay = LocalDate.now().plusYears(1);
+        }
+    }
+
+    private Rental book(Cursor cursor) {
+        int perThread = FLEET_SIZE / MAX_THREADS;
+        long booking = cursor.bookings++;
+        int vehicle = cursor.thread * perThread + (int) (booking % perThread);
+        LocalDate start = cursor.firstDay.plusDays(2 * (booking / perThread));
+        return agency.createRental(FleetGenerator.customerId((int) (booking % CUSTOMERS)),
+                FleetGenerator.vehicleId(vehicle), start, start.plusDays(1));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Rental journaledBookingSingleThread(Cursor cursor) {
+        return book(cursor);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Rental journaledBookingGroupCommit(Cursor cursor) {
+        return book(cursor);
+    }
+}
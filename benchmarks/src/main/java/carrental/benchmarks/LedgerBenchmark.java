@@ -0,0 +1,55 @@
+package carrental.benchmarks;
+
+import carrental.CustomerLedger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One corporate account under load: 15 threads holding and releasing credit
+// while another thread reads the balance and available credit
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LedgerBenchmark {
+    private CustomerLedger ledger;
+    private AtomicLong holdIds;
+
+    @Setup
+    public void setUp() {
+        ledger = new CustomerLedger(Long.MAX_VALUE / 2);
+        holdIds = new AtomicLong();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(15)
+    public boolean reserveAndRelease() {
+        String rentalId = "R" + holdIds.incrementAndGet();
+        boolean reserved = ledger.reserve(rentalId, 12_345);
+        ledger.release(rentalId);
+        return reserved;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public long readAvailableCredit() {
+        return ledger.getBalanceCents() + ledger.getAvailableCreditCents();
+    }
+}
@@ -0,0 +1,78 @@
+package carrental.benchmarks;
+
+import carrental.LatencyHistogram;
+import carrental.RentalAgency;
+import carrental.RentalMetrics;
+import carrental.Vehicle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of the operation metrics: the cheapest instrumented calls with metrics on
+// and off, and one histogram record on its own. Run with -prof gc to check that
+// recording allocates nothing.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    @Param({"true", "false"})
+    public boolean metricsEnabled;
+
+    private static final int FLEET_SIZE = 10_000;
+
+    private RentalAgency agency;
+    private String[] vehicleIds;
+    private Vehicle vehicle;
+    private LatencyHistogram histogram;
+    private long value;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        agency = new FleetGenerator(42).populate(FLEET_SIZE, 0);
+        vehicleIds = new String[FLEET_SIZE];
+        for (int i = 0; i < FLEET_SIZE; i++) {
+            vehicleIds[i] = FleetGenerator.vehicleId(i);
+        }
+        vehicle = agency.findVehicle(vehicleIds[0]);
+        histogram = new LatencyHistogram();
+        RentalMetrics.setEnabled(metricsEnabled);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RentalMetrics.setEnabled(true);
+    }
+
+    @Benchmark
+    public Vehicle findVehicle() {
+        next = (next + 1) % FLEET_SIZE;
+        return agency.findVehicle(vehicleIds[next]);
+    }
+
+    @Benchmark
+    public double calculateRentalPrice() {
+        return vehicle.calculateRentalPrice(7);
+    }
+
+    @Benchmark
+    public void histogramRecord() {
+        value = value * 31 + 17 & 0xFFFFF;
+        histogram.record(value);
+    }
+}
@@ -0,0 +1,87 @@
+package carrental.benchmarks;
+
+import carrental.Car;
+import carrental.FleetPricingEngine;
+import carrental.Motorcycle;
+import carrental.QuoteCache;
+import carrental.RentalAgency;
+import carrental.Vehicle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Per-vehicle price calculation, short and discounted rental lengths, and
+// whole-fleet quotes: a loop over the vehicles vs the array-based engine.
+// cachedCarQuote measures a quote cache hit for comparison.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+    @Param({"3", "7"})
+    public int days;
+
+    private static final int FLEET_SIZE = 100_000;
+
+    private Car car;
+    private Motorcycle motorcycle;
+    private List<Vehicle> fleet;
+    private FleetPricingEngine engine;
+    private double[] quotes;
+    private QuoteCache quoteCache;
+
+    @Setup
+    public void setUp() {
+        car = new Car("CAR001", "Toyota", "Camry", 2022, "Silver", 15000, 40.0, 4, "Gasoline", "Automatic", true);
+        motorcycle = new Motorcycle("MOTO001", "Ducati", "Panigale", 2023, "Red", 2000, 60.0, 955, "Sport", false, true);
+        RentalAgency agency = new FleetGenerator(42).populate(FLEET_SIZE, 0);
+        fleet = List.copyOf(agency.getFleet());
+        engine = agency.createPricingEngine();
+        quotes = new double[FLEET_SIZE];
+        quoteCache = new QuoteCache(1000);
+    }
+
+    @Benchmark
+    public double carRentalPrice() {
+        return car.calculateRentalPrice(days);
+    }
+
+    @Benchmark
+    public double motorcycleRentalPrice() {
+        return motorcycle.calculateRentalPrice(days);
+    }
+
+    @Benchmark
+    public double cachedCarQuote() {
+        return quoteCache.quote(car, days);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double[] fleetQuotePerVehicle() {
+        for (int i = 0; i < fleet.size(); i++) {
+            quotes[i] = fleet.get(i).calculateRentalPrice(days);
+        }
+        return quotes;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double[] fleetQuoteEngine() {
+        return engine.quoteAll(days, quotes);
+    }
+}
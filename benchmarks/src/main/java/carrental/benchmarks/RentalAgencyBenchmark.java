@@ -0,0 +1,87 @@
+package carrental.benchmarks;
+
+import carrental.AgencyStatistics;
+import carrental.RentalAgency;
+import carrental.RentalEventSink;
+import carrental.RentalEvents;
+import carrental.Vehicle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Read-path benchmarks over a seeded fleet of 1K to 1M vehicles
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RentalAgencyBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int fleetSize;
+
+    @Param({"42"})
+    public long seed;
+
+    private RentalAgency agency;
+    private String[] lookupIds;
+    private int cursor;
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FleetGenerator generator = new FleetGenerator(seed);
+        agency = generator.populate(fleetSize, 1000);
+        lookupIds = new String[4096];
+        for (int i = 0; i < lookupIds.length; i++) {
+            lookupIds[i] = FleetGenerator.vehicleId(generator.getRandom().nextInt(fleetSize));
+        }
+        // displayAgencyStatistics still prints its report directly
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        RentalEvents.setSink(RentalEventSink.SILENT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(console);
+    }
+
+    @Benchmark
+    public Vehicle findVehicle() {
+        return agency.findVehicle(lookupIds[cursor++ & (lookupIds.length - 1)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Vehicle> getAvailableVehiclesByType() {
+        return agency.getAvailableVehiclesByType("Motorcycle");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void displayAgencyStatistics() {
+        agency.displayAgencyStatistics();
+    }
+
+    @Benchmark
+    public AgencyStatistics getStatistics() {
+        return agency.getStatistics();
+    }
+}
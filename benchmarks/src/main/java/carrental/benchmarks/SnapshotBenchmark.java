@@ -0,0 +1,62 @@
+package carrental.benchmarks;
+
+import carrental.FleetSnapshot;
+import carrental.RentalAgency;
+import carrental.Vehicle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Time from opening a snapshot to the first vehicle lookup. This should stay flat
+// as the fleet grows, since only the header and the looked-up record are read.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int fleetSize;
+
+    private Path file;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        RentalAgency agency = new FleetGenerator(42).populate(fleetSize, fleetSize / 10);
+        file = Files.createTempFile("fleet", ".snapshot");
+        FleetSnapshot.write(agency, file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Vehicle openAndFindVehicle() throws IOException {
+        try (FleetSnapshot snapshot = FleetSnapshot.open(file)) {
+            RentalAgency agency = new RentalAgency("Snapshot Rentals", "1 Bench Street", "555-0100");
+            agency.attachSnapshot(snapshot);
+            probe = (probe + 7919) % fleetSize;
+            return agency.findVehicle(FleetGenerator.vehicleId(probe));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package carrental.benchmarks;
+
+import carrental.BitmapFleetIndex;
+import carrental.ColumnarFleetStore;
+import carrental.RentalAgency;
+import carrental.Vehicle;
+import carrental.VehicleQuery;
+import carrental.VehicleType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Multi-attribute searches (a selective car filter, a motorcycle filter and a broad
+// price/year filter): scanning the vehicle objects vs the ColumnarFleetStore
+// columns vs intersecting BitmapFleetIndex bitmaps
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class VehicleSearchBenchmark {
+    @Param({"100000", "1000000"})
+    public int fleetSize;
+
+    @Param({"car", "motorcycle", "broad"})
+    public String filter;
+
+    private RentalAgency objectAgency;
+    private RentalAgency columnarAgency;
+    private RentalAgency bitmapAgency;
+    private VehicleQuery query;
+
+    @Setup
+    public void setUp() {
+        objectAgency = new FleetGenerator(42).populate(fleetSize, 0);
+        columnarAgency = new FleetGenerator(42).populate(fleetSize, 0);
+        columnarAgency.attachFleetStore(new ColumnarFleetStore());
+        bitmapAgency = new FleetGenerator(42).populate(fleetSize, 0);
+        bitmapAgency.attachFleetStore(new BitmapFleetIndex());
+        switch (filter) {
+            case "car":
+                query = new VehicleQuery().fuelType("Electric").transmissionType("Automatic").numberOfDoors(4)
+                        .airConditioning(true).yearBetween(2022, 2024).priceBetween(30, 60).availableOnly();
+                break;
+            case "motorcycle":
+                query = new VehicleQuery().type(VehicleType.MOTORCYCLE).powerCategory("Expert")
+                        .engineSizeBetween(700, 1000).maxMileage(40_000).availableOnly();
+                break;
+            default:
+                query = new VehicleQuery().priceBetween(30, 60).yearBetween(2019, 2024).maxMileage(60_000).availableOnly();
+        }
+    }
+
+    @Benchmark
+    public List<Vehicle> objectScan() {
+        return objectAgency.searchVehicles(query);
+    }
+
+    @Benchmark
+    public List<Vehicle> columnarScan() {
+        return columnarAgency.searchVehicles(query);
+    }
+
+    @Benchmark
+    public List<Vehicle> bitmapIndex() {
+        return bitmapAgency.searchVehicles(query);
+    }
+}
@@ -0,0 +1,31 @@
+package carrental;
+
+// AgeBand enum grouping customers by the age rules that apply to their rentals
+public enum AgeBand {
+    UNDER_18("Ineligible - Under 18"),
+    YOUNG_DRIVER("Restricted - Young Driver"),
+    UNDER_25("Standard - Additional fees may apply"),
+    STANDARD("Eligible - Standard rates");
+
+    private final String description;
+
+    AgeBand(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() { return description; }
+    public boolean canRent() { return this != UNDER_18; }
+
+    // Method to find the band for an age
+    public static AgeBand forAge(int age) {
+        if (age < 18) {
+            return UNDER_18;
+        } else if (age < 21) {
+            return YOUNG_DRIVER;
+        } else if (age < 25) {
+            return UNDER_25;
+        } else {
+            return STANDARD;
+        }
+    }
+}
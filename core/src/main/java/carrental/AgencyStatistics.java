@@ -0,0 +1,31 @@
+package carrental;
+
+// AgencyStatistics class holding a point-in-time copy of the agency's counters
+public class AgencyStatistics {
+    private final int totalVehicles;
+    private final int availableVehicles;
+    private final int totalCustomers;
+    private final int totalRentals;
+    private final int activeRentals;
+    private final double totalRevenue;
+
+    // Constructor
+    public AgencyStatistics(int totalVehicles, int availableVehicles, int totalCustomers,
+                            int totalRentals, int activeRentals, double totalRevenue) {
+        this.totalVehicles = totalVehicles;
+        this.availableVehicles = availableVehicles;
+        this.totalCustomers = totalCustomers;
+        this.totalRentals = totalRentals;
+        this.activeRentals = activeRentals;
+        this.totalRevenue = totalRevenue;
+    }
+
+    // Getter methods
+    public int getTotalVehicles() { return totalVehicles; }
+    public int getAvailableVehicles() { return availableVehicles; }
+    public int getRentedVehicles() { return totalVehicles - availableVehicles; }
+    public int getTotalCustomers() { return totalCustomers; }
+    public int getTotalRentals() { return totalRentals; }
+    public int getActiveRentals() { return activeRentals; }
+    public double getTotalRevenue() { return totalRevenue; }
+}
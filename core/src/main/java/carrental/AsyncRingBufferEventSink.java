@@ -0,0 +1,151 @@
+package carrental;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// AsyncRingBufferEventSink class handing events to a background thread through a
+// bounded lock-free ring buffer. Publishers never wait for console I/O: when the
+// buffer is full the event is dropped and counted instead. Formatting happens on
+// the consumer thread, and not at all while the sink is silent. An idle consumer
+// spins briefly and then parks until a publisher or close() wakes it.
+public class AsyncRingBufferEventSink implements RentalEventSink, AutoCloseable {
+    private static final int IDLE_SPINS = 100;
+
+    private final AtomicReferenceArray<RentalEvent> slots;
+    private final int mask;
+    private final AtomicLong tail;  // Next sequence to claim (producers)
+    private final AtomicLong head;  // Next sequence to consume (consumer only writes)
+    private final LongAdder dropped;
+    private final LongAdder failed;
+    private final PrintStream out;
+    private final Thread consumer;
+    private final Object flushLock;
+    private volatile boolean silent;
+    private volatile boolean running;
+    private volatile boolean consumerParked;
+    private volatile int flushWaiters;  // Written under flushLock
+
+    // Constructor; capacity is rounded up to a power of two
+    public AsyncRingBufferEventSink(int capacity, PrintStream out) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+        this.head = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.failed = new LongAdder();
+        this.out = out;
+        this.flushLock = new Object();
+        this.running = true;
+        this.consumer = new Thread(this::drain, "rental-event-sink");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    public AsyncRingBufferEventSink() {
+        this(8192, System.out);
+    }
+
+    // Silent mode drops events before they are queued or formatted
+    public void setSilent(boolean silent) { this.silent = silent; }
+    public boolean isSilent() { return silent; }
+    public long getDroppedCount() { return dropped.sum(); }
+    public long getFailedCount() { return failed.sum(); } // Events whose formatting threw
+
+    @Override
+    public boolean isEnabled() {
+        return !silent && running;
+    }
+
+    @Override
+    public void publish(RentalEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        // A full write, so the consumer either sees the event or is seen parking
+        slots.set((int) sequence & mask, event);
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    // Method to wait until everything published so far has been written out
+    public void flush() {
+        long target = tail.get();
+        synchronized (flushLock) {
+            flushWaiters++;
+            try {
+                while (head.get() < target && consumer.isAlive()) {
+                    flushLock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                flushWaiters--;
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        running = false;
+        LockSupport.unpark(consumer);
+    }
+
+    private void drain() {
+        int spins = 0;
+        try {
+            while (running || head.get() < tail.get()) {
+                long sequence = head.get();
+                int index = (int) sequence & mask;
+                RentalEvent event = slots.get(index);
+                if (event == null) {
+                    // Either nothing was published or a producer has claimed but not yet written the slot
+                    if (spins++ < IDLE_SPINS) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    consumerParked = true;
+                    if (slots.get(index) == null && running) {
+                        LockSupport.park(this);
+                    }
+                    consumerParked = false;
+                    continue;
+                }
+                spins = 0;
+                slots.lazySet(index, null);
+                try {
+                    out.println(event.format());
+                } catch (RuntimeException e) {
+                    // A bad event must not kill the logger thread, but it must show up somewhere
+                    failed.increment();
+                }
+                head.set(sequence + 1);
+                if (flushWaiters > 0) {
+                    wakeFlushers();
+                }
+            }
+        } finally {
+            wakeFlushers();
+        }
+    }
+
+    private void wakeFlushers() {
+        synchronized (flushLock) {
+            flushLock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package carrental;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// AtomicBitmap class holding one bit per fleet store slot in an AtomicLongArray,
+// so many threads can set and clear bits at once with compare-and-set. Growing
+// swaps the array and is not safe against concurrent changes; the stores only
+// grow it under their write lock, while bits are only changed under the read lock.
+final class AtomicBitmap {
+    private AtomicLongArray words;
+
+    // Constructor
+    AtomicBitmap(int capacity) {
+        this.words = new AtomicLongArray(wordCount(capacity));
+    }
+
+    // Method to set or clear one bit without disturbing its neighbours
+    void set(int bit, boolean value) {
+        AtomicLongArray current = words;
+        int index = bit >>> 6;
+        long mask = 1L << bit;
+        while (true) {
+            long word = current.get(index);
+            long updated = value ? word | mask : word & ~mask;
+            if (updated == word || current.compareAndSet(index, word, updated)) {
+                return;
+            }
+        }
+    }
+
+    // Method to make room for at least the given number of bits
+    void ensureCapacity(int bits) {
+        int needed = wordCount(bits);
+        if (needed > words.length()) {
+            AtomicLongArray grown = new AtomicLongArray(needed);
+            for (int i = 0; i < words.length(); i++) {
+                grown.set(i, words.get(i));
+            }
+            words = grown;
+        }
+    }
+
+    // Method to copy the bits into a BitSet a search can narrow down; each word is read atomically
+    BitSet toBitSet() {
+        AtomicLongArray current = words;
+        long[] copy = new long[current.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = current.get(i);
+        }
+        return BitSet.valueOf(copy);
+    }
+
+    private static int wordCount(int bits) {
+        return Math.max(1, (bits + 63) >>> 6);
+    }
+}
@@ -0,0 +1,366 @@
+package carrental;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// BitmapFleetIndex class answering multi-attribute searches without scanning the
+// fleet. Each vehicle gets a slot. Every categorical value (brand, model, color,
+// fuel, transmission, air conditioning, power category) has a bitmap of the slots
+// holding it, and so do the small integer attributes (year, doors, engine size),
+// kept in sorted maps so a range is the union of a few bitmaps. Price and mileage
+// have too many distinct values for a bitmap each; they are kept in sorted maps
+// of value to slots. A search intersects the bitmaps with the live availability
+// bitmap and only then applies the price and mileage ranges, either through the
+// sorted maps or by checking the remaining candidates, whichever touches fewer
+// slots. Availability is an AtomicBitmap flipped with CAS under the read lock, so
+// rentals and returns run alongside searches; adding or removing a vehicle, or
+// changing its price or mileage, takes the write lock.
+public class BitmapFleetIndex implements FleetStore {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock;
+    private final Map<Vehicle, Integer> slots;
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+
+    // Slot contents; price and mileage are kept to find the old sorted-map entry on change
+    private Vehicle[] vehicles;
+    private double[] prices;
+    private double[] mileages;
+
+    private final BitSet occupied;
+    private final AtomicBitmap available;
+    private final BitSet cars;
+    private final BitSet airConditioned;
+
+    private final Map<String, BitSet> brands;
+    private final Map<String, BitSet> models;
+    private final Map<String, BitSet> colors;
+    private final Map<String, BitSet> fuelTypes;
+    private final Map<String, BitSet> transmissions;
+    private final Map<String, BitSet> powerCategories;
+    private final NavigableMap<Integer, BitSet> years;
+    private final NavigableMap<Integer, BitSet> doors;
+    private final NavigableMap<Integer, BitSet> engineSizes;
+    private final NavigableMap<Double, SlotList> priceIndex;
+    private final NavigableMap<Double, SlotList> mileageIndex;
+
+    // Constructor
+    public BitmapFleetIndex() {
+        this.lock = new ReentrantReadWriteLock();
+        this.slots = new HashMap<>();
+        this.freeSlots = new int[16];
+        this.vehicles = new Vehicle[INITIAL_CAPACITY];
+        this.prices = new double[INITIAL_CAPACITY];
+        this.mileages = new double[INITIAL_CAPACITY];
+        this.occupied = new BitSet();
+        this.available = new AtomicBitmap(INITIAL_CAPACITY);
+        this.cars = new BitSet();
+        this.airConditioned = new BitSet();
+        this.brands = new HashMap<>();
+        this.models = new HashMap<>();
+        this.colors = new HashMap<>();
+        this.fuelTypes = new HashMap<>();
+        this.transmissions = new HashMap<>();
+        this.powerCategories = new HashMap<>();
+        this.years = new TreeMap<>();
+        this.doors = new TreeMap<>();
+        this.engineSizes = new TreeMap<>();
+        this.priceIndex = new TreeMap<>();
+        this.mileageIndex = new TreeMap<>();
+    }
+
+    @Override
+    public void add(Vehicle vehicle) {
+        lock.writeLock().lock();
+        try {
+            if (slots.containsKey(vehicle)) {
+                return;
+            }
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+            slots.put(vehicle, slot);
+            vehicles[slot] = vehicle;
+            occupied.set(slot);
+            bitmap(brands, vehicle.getBrand()).set(slot);
+            bitmap(models, vehicle.getModel()).set(slot);
+            bitmap(colors, vehicle.getColor()).set(slot);
+            bitmap(years, vehicle.getYear()).set(slot);
+            if (vehicle instanceof Car) {
+                Car car = (Car) vehicle;
+                cars.set(slot);
+                airConditioned.set(slot, car.hasAirConditioning());
+                bitmap(fuelTypes, car.getFuelType()).set(slot);
+                bitmap(transmissions, car.getTransmissionType()).set(slot);
+                bitmap(doors, car.getNumberOfDoors()).set(slot);
+            } else {
+                Motorcycle motorcycle = (Motorcycle) vehicle;
+                bitmap(engineSizes, motorcycle.getEngineSize()).set(slot);
+                bitmap(powerCategories, motorcycle.getPowerCategory()).set(slot);
+            }
+            prices[slot] = vehicle.getBasePricePerDay();
+            mileages[slot] = vehicle.getMileage();
+            priceIndex.computeIfAbsent(prices[slot], value -> new SlotList()).add(slot);
+            mileageIndex.computeIfAbsent(mileages[slot], value -> new SlotList()).add(slot);
+            available.set(slot, vehicle.isAvailable());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Vehicle vehicle) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(vehicle);
+            if (slot == null) {
+                return;
+            }
+            // Attributes other than price, mileage and availability never change,
+            // so the vehicle still names the bitmaps its slot is in
+            vehicles[slot] = null;
+            occupied.clear(slot);
+            available.set(slot, false);
+            brands.get(vehicle.getBrand()).clear(slot);
+            models.get(vehicle.getModel()).clear(slot);
+            colors.get(vehicle.getColor()).clear(slot);
+            years.get(vehicle.getYear()).clear(slot);
+            if (vehicle instanceof Car) {
+                Car car = (Car) vehicle;
+                cars.clear(slot);
+                airConditioned.clear(slot);
+                fuelTypes.get(car.getFuelType()).clear(slot);
+                transmissions.get(car.getTransmissionType()).clear(slot);
+                doors.get(car.getNumberOfDoors()).clear(slot);
+            } else {
+                Motorcycle motorcycle = (Motorcycle) vehicle;
+                engineSizes.get(motorcycle.getEngineSize()).clear(slot);
+                powerCategories.get(motorcycle.getPowerCategory()).clear(slot);
+            }
+            unlist(priceIndex, prices[slot], slot);
+            unlist(mileageIndex, mileages[slot], slot);
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateAvailability(Vehicle vehicle) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(vehicle);
+            if (slot != null) {
+                FleetStores.trackAvailability(available, slot, vehicle);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Vehicle vehicle) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(vehicle);
+            if (slot == null) {
+                return;
+            }
+            double price = vehicle.getBasePricePerDay();
+            if (Double.compare(price, prices[slot]) != 0) {
+                unlist(priceIndex, prices[slot], slot);
+                priceIndex.computeIfAbsent(price, value -> new SlotList()).add(slot);
+                prices[slot] = price;
+            }
+            double mileage = vehicle.getMileage();
+            if (Double.compare(mileage, mileages[slot]) != 0) {
+                unlist(mileageIndex, mileages[slot], slot);
+                mileageIndex.computeIfAbsent(mileage, value -> new SlotList()).add(slot);
+                mileages[slot] = mileage;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Vehicle> search(VehicleQuery query) {
+        List<Vehicle> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet candidates = FleetStores.candidates(query, occupied, available, cars, airConditioned);
+            if (candidates == null) {
+                return matches;
+            }
+            boolean motorcyclesOnly = FleetStores.motorcyclesOnly(query);
+
+            // Unknown values have no bitmap, so nothing can match them
+            if (!and(candidates, brands, query.getBrand())
+                    || !and(candidates, models, query.getModel())
+                    || !and(candidates, colors, query.getColor())
+                    || !and(candidates, fuelTypes, query.getFuelType())
+                    || !and(candidates, transmissions, query.getTransmissionType())
+                    || !and(candidates, powerCategories, query.getPowerCategory())) {
+                return matches;
+            }
+            Integer door = query.getNumberOfDoors();
+            if (door != null) {
+                andRange(candidates, doors, door, door);
+            }
+            andRange(candidates, years, query.getMinYear(), query.getMaxYear());
+            if (motorcyclesOnly) {
+                andRange(candidates, engineSizes, query.getMinEngineSize(), query.getMaxEngineSize());
+            }
+
+            double minPrice = query.getMinPrice();
+            double maxPrice = query.getMaxPrice();
+            double maxMileage = query.getMaxMileage();
+            boolean priceLimited = minPrice != Double.NEGATIVE_INFINITY || maxPrice != Double.POSITIVE_INFINITY;
+            boolean mileageLimited = maxMileage != Double.POSITIVE_INFINITY;
+            if (priceLimited && !andSorted(candidates, priceIndex, minPrice, maxPrice)) {
+                filter(candidates, prices, minPrice, maxPrice);
+            }
+            if (mileageLimited && !andSorted(candidates, mileageIndex, Double.NEGATIVE_INFINITY, maxMileage)) {
+                filter(candidates, mileages, Double.NEGATIVE_INFINITY, maxMileage);
+            }
+
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                matches.add(vehicles[slot]);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Intersects with the bitmap for a value; false when no vehicle has the value
+    private static boolean and(BitSet candidates, Map<String, BitSet> bitmaps, String value) {
+        if (value == null) {
+            return true;
+        }
+        BitSet bitmap = bitmaps.get(value);
+        if (bitmap == null) {
+            return false;
+        }
+        candidates.and(bitmap);
+        return true;
+    }
+
+    // Intersects with the union of the bitmaps for every value in [min, max]
+    private static void andRange(BitSet candidates, NavigableMap<Integer, BitSet> bitmaps, int min, int max) {
+        if (bitmaps.isEmpty() || min > max) {
+            candidates.clear();
+            return;
+        }
+        // A range spanning every value excludes nothing the type check has not already
+        if (min <= bitmaps.firstKey() && max >= bitmaps.lastKey()) {
+            return;
+        }
+        BitSet union = new BitSet();
+        for (BitSet bitmap : bitmaps.subMap(min, true, max, true).values()) {
+            union.or(bitmap);
+        }
+        candidates.and(union);
+    }
+
+    // Intersects with the slots listed under [min, max] in a sorted map, unless the
+    // range lists more slots than there are candidates left; returns false in that
+    // case, and the caller checks the candidates one by one instead
+    private static boolean andSorted(BitSet candidates, NavigableMap<Double, SlotList> index, double min, double max) {
+        if (min > max) {
+            candidates.clear();
+            return true;
+        }
+        NavigableMap<Double, SlotList> range = index.subMap(min, true, max, true);
+        int budget = candidates.cardinality();
+        int listed = 0;
+        for (SlotList list : range.values()) {
+            listed += list.size;
+            if (listed > budget) {
+                return false;
+            }
+        }
+        BitSet inRange = new BitSet();
+        for (SlotList list : range.values()) {
+            for (int i = 0; i < list.size; i++) {
+                inRange.set(list.slots[i]);
+            }
+        }
+        candidates.and(inRange);
+        return true;
+    }
+
+    private static void filter(BitSet candidates, double[] values, double min, double max) {
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (values[slot] < min || values[slot] > max) {
+                candidates.clear(slot);
+            }
+        }
+    }
+
+    private static <K> BitSet bitmap(Map<K, BitSet> bitmaps, K value) {
+        return bitmaps.computeIfAbsent(value, key -> new BitSet());
+    }
+
+    private static void unlist(Map<Double, SlotList> index, double value, int slot) {
+        SlotList list = index.get(value);
+        if (list != null && list.remove(slot) && list.size == 0) {
+            index.remove(value);
+        }
+    }
+
+    private int nextSlot() {
+        if (highWater == vehicles.length) {
+            int capacity = vehicles.length * 2;
+            vehicles = Arrays.copyOf(vehicles, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            mileages = Arrays.copyOf(mileages, capacity);
+            available.ensureCapacity(capacity);
+        }
+        return highWater++;
+    }
+
+    // Unordered list of the slots sharing one price or mileage
+    private static final class SlotList {
+        private int[] slots = new int[2];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package carrental;
+
+import java.time.LocalDate;
+
+// BookingRequest class describing one item of a bulk booking
+public class BookingRequest {
+    private final String customerId;
+    private final String vehicleId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    // Constructor
+    public BookingRequest(String customerId, String vehicleId, LocalDate startDate, LocalDate endDate) {
+        this.customerId = customerId;
+        this.vehicleId = vehicleId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    // Getter methods
+    public String getCustomerId() { return customerId; }
+    public String getVehicleId() { return vehicleId; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+}
@@ -0,0 +1,21 @@
+package carrental;
+
+// BookingResult class reporting what happened to one BookingRequest
+public class BookingResult {
+    private final BookingRequest request;
+    private final BookingStatus status;
+    private final Rental rental; // Only set when the booking was accepted
+
+    // Constructor
+    public BookingResult(BookingRequest request, BookingStatus status, Rental rental) {
+        this.request = request;
+        this.status = status;
+        this.rental = rental;
+    }
+
+    // Getter methods
+    public BookingRequest getRequest() { return request; }
+    public BookingStatus getStatus() { return status; }
+    public Rental getRental() { return rental; }
+    public boolean isAccepted() { return status.isAccepted(); }
+}
@@ -0,0 +1,21 @@
+package carrental;
+
+// BookingStatus enum giving the outcome of a booking attempt as a reason code
+public enum BookingStatus {
+    ACCEPTED("Rental created successfully!"),
+    CUSTOMER_NOT_FOUND("Customer not found!"),
+    VEHICLE_NOT_FOUND("Vehicle not found!"),
+    VEHICLE_UNAVAILABLE("Vehicle is not available for the requested dates!"),
+    UNDERAGE("Customer must be at least 18 years old to rent a vehicle."),
+    MOTORCYCLE_LICENSE_REQUIRED("Customer needs a motorcycle license to rent this vehicle."),
+    CREDIT_LIMIT_EXCEEDED("Rental cost exceeds customer's credit limit.");
+
+    private final String message;
+
+    BookingStatus(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() { return message; }
+    public boolean isAccepted() { return this == ACCEPTED; }
+}
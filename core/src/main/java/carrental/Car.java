@@ -1,8 +1,12 @@
+package carrental;
+
 // Car class demonstrating Inheritance
 public class Car extends Vehicle {
+    private static final int AUTOMATIC = SYMBOLS.intern("Automatic");
+
     private int numberOfDoors;
-    private String fuelType;
-    private String transmissionType;
+    private int fuelType;         // Codes in SYMBOLS
+    private int transmissionType;
     private boolean hasAirConditioning;
 
     // Constructor
@@ -11,16 +15,19 @@ public class Car extends Vehicle {
                String fuelType, String transmissionType, boolean hasAirConditioning) {
         super(vehicleId, brand, model, year, color, mileage, basePricePerDay);
         this.numberOfDoors = numberOfDoors;
-        this.fuelType = fuelType;
-        this.transmissionType = transmissionType;
+        this.fuelType = SYMBOLS.intern(fuelType);
+        this.transmissionType = SYMBOLS.intern(transmissionType);
         this.hasAirConditioning = hasAirConditioning;
+        reprice();
     }
 
     // Getter methods
     public int getNumberOfDoors() { return numberOfDoors; }
-    public String getFuelType() { return fuelType; }
-    public String getTransmissionType() { return transmissionType; }
+    public String getFuelType() { return SYMBOLS.value(fuelType); }
+    public String getTransmissionType() { return SYMBOLS.value(transmissionType); }
     public boolean hasAirConditioning() { return hasAirConditioning; }
+    int getFuelTypeCode() { return fuelType; }
+    int getTransmissionTypeCode() { return transmissionType; }
 
     // Implementation of abstract methods (Polymorphism)
     @Override
@@ -33,8 +40,8 @@ public class Car extends Vehicle {
         System.out.println("Color: " + getColor());
         System.out.println("Mileage: " + getMileage() + " miles");
         System.out.println("Doors: " + numberOfDoors);
-        System.out.println("Fuel Type: " + fuelType);
-        System.out.println("Transmission: " + transmissionType);
+        System.out.println("Fuel Type: " + getFuelType());
+        System.out.println("Transmission: " + getTransmissionType());
         System.out.println("Air Conditioning: " + (hasAirConditioning ? "Yes" : "No"));
         System.out.println("Base Price/Day: $" + String.format("%.2f", getBasePricePerDay()));
         System.out.println("Available: " + (isAvailable() ? "Yes" : "No"));
@@ -43,34 +50,36 @@ public class Car extends Vehicle {
 
     @Override
     public double calculateRentalPrice(int days) {
-        double price = getBasePricePerDay() * days;
+        long start = RentalMetrics.start();
+        double price = getRateCard().quote(days);
+        RentalMetrics.completed(RentalOperation.CALCULATE_PRICE, start);
+        return price;
+    }
 
+    @Override
+    protected RateCard buildRateCard() {
         // Add premium for luxury features
-        if (hasAirConditioning) {
-            price += 5.0 * days; // $5 extra per day for AC
-        }
+        double airConditioning = hasAirConditioning ? 5.0 : 0.0; // $5 extra per day for AC
+        double automatic = SYMBOLS.equalsIgnoreCase(transmissionType, AUTOMATIC) ? 3.0 : 0.0; // $3 extra per day for automatic
 
-        if (transmissionType.equalsIgnoreCase("Automatic")) {
-            price += 3.0 * days; // $3 extra per day for automatic
-        }
-
-        // Discount for longer rentals
-        if (days >= 7) {
-            price *= 0.9; // 10% discount for weekly rentals
-        }
-
-        return price;
+        // Discount for longer rentals: 10% off weekly rentals
+        return new RateCard(getBasePricePerDay(), airConditioning, automatic, 0.0, 7, 0.9);
     }
 
     @Override
     public String getVehicleType() {
-        return "Car";
+        return getType().getDisplayName();
+    }
+
+    @Override
+    public VehicleType getType() {
+        return VehicleType.CAR;
     }
 
     // Car-specific method
     public void checkFuelLevel() {
         System.out.println("Checking fuel level for " + getBrand() + " " + getModel());
-        System.out.println("Fuel Type: " + fuelType);
+        System.out.println("Fuel Type: " + getFuelType());
         System.out.println("Please ensure the tank is full before returning.");
     }
 
@@ -0,0 +1,688 @@
+package carrental;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Scanner;
+
+// Main class demonstrating the Car Rental System with Interactive Menu
+public class CarRentalSystem {
+    private static Scanner scanner = new Scanner(System.in);
+    private static RentalAgency agency;
+    private static RentalJournal journal;
+    private static int nextCustomerId = 1;
+    private static int nextVehicleId = 1;
+
+    public static void main(String[] args) {
+        // Print events as they happen so they stay in step with the prompts
+        RentalEvents.setSink(new ConsoleEventSink());
+
+        // Initialize the rental agency
+        agency = new RentalAgency("City Car Rentals", "456 Elm Street, Metropolis", "555-1234");
+
+        // Completed rentals go to an archive file, refilled from the journal on start
+        openArchive();
+
+        // Restore the agency from earlier sessions, or start with the initial fleet
+        boolean fromSnapshot = openSnapshot();
+        openJournal(fromSnapshot);
+
+        // Answer vehicle searches from bitmaps instead of scanning the fleet
+        agency.attachFleetStore(new BitmapFleetIndex());
+
+        // Publish operation latencies and failure counts over JMX
+        RentalMetrics.registerMBeans();
+
+        // "--http [port]" serves the agency over HTTP instead of the console menu
+        if (args.length > 0 && args[0].equals("--http")) {
+            serveHttp(args.length > 1 ? Integer.parseInt(args[1]) : 8080);
+            return;
+        }
+
+        // Display welcome message
+        displayWelcomeMessage();
+
+        // Main system loop
+        boolean running = true;
+        while (running) {
+            displayUserTypeMenu();
+            int userType = getIntInput("Select user type: ");
+
+            switch (userType) {
+                case 1:
+                    customerInterface();
+                    break;
+                case 2:
+                    adminInterface();
+                    break;
+                case 0:
+                    running = false;
+                    System.out.println("\nThank you for using " + agency.getAgencyName() + "!");
+                    break;
+                default:
+                    System.out.println("\n❌ Invalid choice. Please try again.");
+            }
+        }
+
+        scanner.close();
+        closeJournal();
+        agency.close();
+    }
+
+    // The archive file (-Dcarrental.archive=path) is closed with the process; without
+    // it completed rentals are archived in memory outside the heap instead
+    private static void openArchive() {
+        String location = System.getProperty("carrental.archive", "rental-agency.archive");
+        try {
+            agency.attachArchive(RentalArchive.open(Paths.get(location)));
+        } catch (IOException e) {
+            System.out.println("⚠️  Archive file unavailable (" + e.getMessage() + "); archiving in memory.");
+        }
+    }
+
+    // A snapshot (-Dcarrental.snapshot=path) supplies the base fleet and customers;
+    // records are read on demand, so opening it is quick however large it is
+    private static boolean openSnapshot() {
+        String location = System.getProperty("carrental.snapshot");
+        if (location == null) {
+            return false;
+        }
+        try {
+            FleetSnapshot snapshot = FleetSnapshot.open(Paths.get(location));
+            agency.attachSnapshot(snapshot);
+            System.out.println("Opened snapshot " + location + " (" + snapshot.getVehicleCount() + " vehicles, "
+                    + snapshot.getCustomerCount() + " customers)");
+            return true;
+        } catch (IOException e) {
+            System.out.println("⚠️  Snapshot unavailable (" + e.getMessage() + ")");
+            return false;
+        }
+    }
+
+    private static void openJournal(boolean fromSnapshot) {
+        Path path = Paths.get(System.getProperty("carrental.journal", "rental-agency.journal"));
+        try {
+            RentalEvents.setSink(RentalEventSink.SILENT);
+            int replayed;
+            try {
+                replayed = RentalJournal.replay(path, agency);
+            } finally {
+                RentalEvents.setSink(new ConsoleEventSink());
+            }
+            journal = new RentalJournal(path);
+            agency.attachJournal(journal);
+
+            if (replayed == 0 && !fromSnapshot) {
+                initializeFleet();
+            } else {
+                if (replayed > 0) {
+                    System.out.println("Restored " + replayed + " journal record(s) from " + path);
+                }
+                nextCustomerId = agency.getTotalCustomerCount() + 1;
+                nextVehicleId = agency.getTotalVehicleCount() + 1;
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️  Journal unavailable (" + e.getMessage() + "); changes will not be saved.");
+            if (!fromSnapshot) {
+                initializeFleet();
+            }
+        }
+    }
+
+    // Runs until the process is stopped; the shutdown hook drains requests and closes the journal
+    private static void serveHttp(int port) {
+        // Console output must not hold up request threads
+        AsyncRingBufferEventSink sink = new AsyncRingBufferEventSink();
+        RentalEvents.setSink(sink);
+        try {
+            RentalHttpServer server = new RentalHttpServer(agency, port);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                closeJournal();
+                agency.close();
+                sink.close();
+            }));
+            server.start();
+            System.out.println(agency.getAgencyName() + " listening on port " + server.getPort()
+                    + (server.isVirtualThreads() ? " (virtual threads)" : " (thread pool)"));
+        } catch (IOException e) {
+            System.out.println("❌ Could not start HTTP server: " + e.getMessage());
+            closeJournal();
+            agency.close();
+            sink.close();
+        }
+    }
+
+    private static void saveSnapshot() {
+        String location = getStringInput("Snapshot file: ");
+        try {
+            FleetSnapshot.write(agency, Paths.get(location));
+            System.out.println("✅ Snapshot saved to " + location);
+        } catch (IOException e) {
+            System.out.println("❌ Could not save snapshot: " + e.getMessage());
+        }
+    }
+
+    private static void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.out.println("⚠️  Could not close journal: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void initializeFleet() {
+        // Add some initial vehicles
+        Car car1 = new Car("CAR001", "Toyota", "Camry", 2022, "Silver", 15000, 40.0, 4, "Gasoline", "Automatic", true);
+        Car car2 = new Car("CAR002", "Honda", "Civic", 2021, "Red", 30000, 35.0, 4, "Gasoline", "Manual", false);
+        Motorcycle moto1 = new Motorcycle("MOTO001", "Yamaha", "MT-07", 2023, "Black", 5000, 25.0, 689, "Standard", false, false);
+        Motorcycle moto2 = new Motorcycle("MOTO002", "Harley-Davidson", "Street 750", 2022, "Blue", 8000, 45.0, 749, "Cruiser", false, true);
+
+        agency.addVehicle(car1);
+        agency.addVehicle(car2);
+        agency.addVehicle(moto1);
+        agency.addVehicle(moto2);
+
+        nextVehicleId = 5; // Start next vehicle ID after existing ones
+    }
+
+    private static void displayWelcomeMessage() {
+        System.out.println("\n" + "=".repeat(50));
+        System.out.println("     WELCOME TO " + agency.getAgencyName().toUpperCase());
+        System.out.println("     " + agency.getAddress());
+        System.out.println("     Phone: " + agency.getPhoneNumber());
+        System.out.println("=".repeat(50));
+    }
+
+    private static void displayUserTypeMenu() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("       SELECT USER TYPE");
+        System.out.println("=".repeat(40));
+        System.out.println("1. 👥 Customer");
+        System.out.println("2. 🛠️ Admin");
+        System.out.println("0. 🚪 Exit");
+        System.out.println("=".repeat(40));
+    }
+
+    private static void customerInterface() {
+        System.out.println("\nWelcome Customer!");
+        System.out.println("1. Register as New Customer");
+        System.out.println("2. View Available Cars");
+        System.out.println("3. Book a Car");
+        System.out.println("4. Calculate Rental Cost");
+        System.out.println("5. Search Vehicles");
+        System.out.println("6. Vehicles I Can Rent");
+        System.out.println("0. Back to User Type Menu");
+
+        int choice = getIntInput("Enter your choice: ");
+        switch (choice) {
+            case 1:
+                registerNewCustomer();
+                break;
+            case 2:
+                viewAvailableVehicles();
+                break;
+            case 3:
+                createRental();
+                break;
+            case 4:
+                calculateRentalCost();
+                break;
+            case 5:
+                searchVehicles();
+                break;
+            case 6:
+                viewRentableVehicles();
+                break;
+            case 0:
+                return; // Exit to main user type menu
+            default:
+                System.out.println("Invalid choice! Returning to User Type Menu.");
+        }
+    }
+
+    private static void adminInterface() {
+        System.out.println("\nWelcome Admin!");
+        System.out.println("1. Add New Car");
+        System.out.println("2. Save Fleet Snapshot");
+        System.out.println("3. View Overdue Rentals");
+        System.out.println("4. Export Rental History");
+        System.out.println("5. Import Vehicles from CSV");
+        System.out.println("6. Import Customers from CSV");
+        System.out.println("7. View Performance Metrics");
+        System.out.println("0. Back to User Type Menu");
+
+        int choice = getIntInput("Enter your choice: ");
+        switch (choice) {
+            case 1:
+                addNewVehicle();
+                break;
+            case 2:
+                saveSnapshot();
+                break;
+            case 3:
+                viewOverdueRentals();
+                break;
+            case 4:
+                exportRentalHistory();
+                break;
+            case 5:
+                importFromCsv(true);
+                break;
+            case 6:
+                importFromCsv(false);
+                break;
+            case 7:
+                viewMetrics();
+                break;
+            case 0:
+                return; // Exit to main user type menu
+            default:
+                System.out.println("Invalid choice! Returning to User Type Menu.");
+        }
+    }
+
+    private static void viewMetrics() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("       PERFORMANCE METRICS");
+        System.out.println("=".repeat(40));
+        if (!RentalMetrics.isEnabled()) {
+            System.out.println("Metrics are switched off.");
+        }
+        System.out.println("Times in microseconds since start or the last reset.");
+        System.out.print(RentalMetrics.dump());
+    }
+
+    private static void calculateRentalCost() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("       CALCULATE RENTAL COST");
+        System.out.println("=".repeat(40));
+
+        String vehicleId = getStringInput("Vehicle ID: ");
+        Vehicle vehicle = agency.findVehicle(vehicleId);
+        if (vehicle == null) {
+            System.out.println("❌ Vehicle not found!");
+            return;
+        }
+        int days = getIntInput("Number of days: ");
+        if (days <= 0) {
+            System.out.println("❌ Rental must be at least one day.");
+            return;
+        }
+        System.out.println("💰 " + days + " day(s) of " + vehicle.getBrand() + " " + vehicle.getModel()
+                + ": $" + String.format("%.2f", agency.quote(vehicle, days)));
+    }
+
+    private static void viewRentableVehicles() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("       VEHICLES YOU CAN RENT");
+        System.out.println("=".repeat(40));
+
+        String customerId = getStringInput("Customer ID: ");
+        LocalDate startDate = getDateInput("Start Date (YYYY-MM-DD): ");
+        int days = getIntInput("Number of days: ");
+        if (days <= 0) {
+            System.out.println("❌ Rental must be at least one day.");
+            return;
+        }
+        FleetEligibility eligibility = agency.checkEligibility(customerId, startDate, days);
+        if (eligibility == null) {
+            System.out.println("❌ " + BookingStatus.CUSTOMER_NOT_FOUND.getMessage());
+            return;
+        }
+        int rentable = 0;
+        for (int i = 0; i < eligibility.size(); i++) {
+            if (eligibility.getStatus(i).isAccepted()) {
+                Vehicle vehicle = eligibility.getVehicle(i);
+                System.out.println(vehicle.getVehicleId() + " - " + vehicle.getBrand() + " " + vehicle.getModel()
+                        + ": $" + String.format("%.2f", eligibility.getQuote(i)) + " for " + days + " day(s)");
+                rentable++;
+            }
+        }
+        System.out.println("✅ " + rentable + " vehicle(s) available to you.");
+        for (BookingStatus status : BookingStatus.values()) {
+            int count = eligibility.count(status);
+            if (!status.isAccepted() && count > 0) {
+                System.out.println("❌ " + count + " vehicle(s): " + status.getMessage());
+            }
+        }
+    }
+
+    private static void registerNewCustomer() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("       CUSTOMER REGISTRATION");
+        System.out.println("=".repeat(40));
+
+        String customerId = "CUST" + String.format("%03d", nextCustomerId++);
+
+        System.out.println("Customer ID: " + customerId);
+        String firstName = getStringInput("First Name: ");
+        String lastName = getStringInput("Last Name: ");
+        String email = getStringInput("Email: ");
+        String phone = getStringInput("Phone Number: ");
+        String license = getStringInput("License Number: ");
+        int age = getIntInput("Age: ");
+
+        System.out.print("Do you have a motorcycle license? (y/n): ");
+        boolean hasMotorcycleLicense = scanner.nextLine().toLowerCase().startsWith("y");
+
+        double creditLimit = getDoubleInput("Credit Limit: $");
+
+        Customer customer = new Customer(customerId, firstName, lastName, email, phone, license, age, hasMotorcycleLicense, creditLimit);
+        agency.registerCustomer(customer);
+
+        System.out.println("\n✅ Customer registered successfully!");
+        customer.displayCustomerInfo();
+    }
+
+    private static void addNewVehicle() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("         ADD NEW VEHICLE");
+        System.out.println("=".repeat(40));
+        System.out.println("1. 🚗 Add Car");
+        System.out.println("2. 🏍️ Add Motorcycle");
+
+        int vehicleType = getIntInput("Select vehicle type: ");
+
+        if (vehicleType == 1) {
+            addNewCar();
+        } else if (vehicleType == 2) {
+            addNewMotorcycle();
+        } else {
+            System.out.println("❌ Invalid vehicle type!");
+        }
+    }
+
+    private static void addNewCar() {
+        System.out.println("\n--- CAR DETAILS ---");
+
+        String vehicleId = "CAR" + String.format("%03d", nextVehicleId++);
+        System.out.println("Vehicle ID: " + vehicleId);
+
+        String brand = getStringInput("Brand: ");
+        String model = getStringInput("Model: ");
+        int year = getIntInput("Year: ");
+        String color = getStringInput("Color: ");
+        double mileage = getDoubleInput("Mileage: ");
+        double basePrice = getDoubleInput("Base Price per Day: $");
+        int doors = getIntInput("Number of Doors: ");
+        String fuelType = getStringInput("Fuel Type (Gasoline/Diesel/Electric): ");
+        String transmission = getStringInput("Transmission (Manual/Automatic): ");
+
+        System.out.print("Has Air Conditioning? (y/n): ");
+        boolean hasAC = scanner.nextLine().toLowerCase().startsWith("y");
+
+        Car car = new Car(vehicleId, brand, model, year, color, mileage, basePrice, doors, fuelType, transmission, hasAC);
+        agency.addVehicle(car);
+
+        System.out.println("\n✅ Car added successfully!");
+        car.displayVehicleInfo();
+    }
+
+    private static void addNewMotorcycle() {
+        System.out.println("\n--- MOTORCYCLE DETAILS ---");
+
+        String vehicleId = "MOTO" + String.format("%03d", nextVehicleId++);
+        System.out.println("Vehicle ID: " + vehicleId);
+
+        String brand = getStringInput("Brand: ");
+        String model = getStringInput("Model: ");
+        int year = getIntInput("Year: ");
+        String color = getStringInput("Color: ");
+        double mileage = getDoubleInput("Mileage: ");
+        double basePrice = getDoubleInput("Base Price per Day: $");
+        int engineSize = getIntInput("Engine Size (CC): ");
+        String motorcycleType = getStringInput("Type (Sport/Cruiser/Standard/Touring): ");
+
+        System.out.print("Has Sidecar? (y/n): ");
+        boolean hasSidecar = scanner.nextLine().toLowerCase().startsWith("y");
+
+        System.out.print("Requires Special License? (y/n): ");
+        boolean requiresSpecialLicense = scanner.nextLine().toLowerCase().startsWith("y");
+
+        Motorcycle motorcycle = new Motorcycle(vehicleId, brand, model, year, color, mileage, basePrice, engineSize, motorcycleType, hasSidecar, requiresSpecialLicense);
+        agency.addVehicle(motorcycle);
+
+        System.out.println("\n✅ Motorcycle added successfully!");
+        motorcycle.displayVehicleInfo();
+    }
+
+    private static void viewAvailableVehicles() {
+        agency.displayAvailableVehicles();
+    }
+
+    private static void searchVehicles() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("       SEARCH VEHICLES");
+        System.out.println("=".repeat(40));
+        System.out.println("Leave a criterion blank to accept any value.");
+
+        VehicleQuery query = new VehicleQuery().availableOnly();
+        try {
+            String type = getOptionalInput("Type (Car/Motorcycle): ");
+            if (type != null) {
+                VehicleType vehicleType = VehicleType.fromName(type);
+                if (vehicleType == null) {
+                    System.out.println("❌ Unknown vehicle type: " + type);
+                    return;
+                }
+                query.type(vehicleType);
+            }
+            query.brand(getOptionalInput("Brand: "));
+            query.fuelType(getOptionalInput("Fuel type: "));
+            query.transmissionType(getOptionalInput("Transmission: "));
+            String doors = getOptionalInput("Number of doors: ");
+            if (doors != null) {
+                query.numberOfDoors(Integer.parseInt(doors));
+            }
+            String airConditioning = getOptionalInput("Air conditioning (y/n): ");
+            if (airConditioning != null) {
+                query.airConditioning(airConditioning.toLowerCase().startsWith("y"));
+            }
+            String minYear = getOptionalInput("Minimum year: ");
+            if (minYear != null) {
+                query.yearBetween(Integer.parseInt(minYear), Integer.MAX_VALUE);
+            }
+            String maxPrice = getOptionalInput("Maximum price per day: $");
+            if (maxPrice != null) {
+                query.priceBetween(0, Double.parseDouble(maxPrice));
+            }
+            String minEngineSize = getOptionalInput("Minimum engine size (CC): ");
+            if (minEngineSize != null) {
+                query.engineSizeBetween(Integer.parseInt(minEngineSize), Integer.MAX_VALUE);
+            }
+            query.powerCategory(getOptionalInput("Power category (Beginner/Intermediate/Advanced/Expert): "));
+        } catch (NumberFormatException e) {
+            System.out.println("❌ Please enter a valid number!");
+            return;
+        }
+
+        List<Vehicle> matches = agency.searchVehicles(query);
+        System.out.println("\nFound " + matches.size() + " matching vehicle(s)");
+        for (Vehicle vehicle : matches) {
+            System.out.println(vehicle.getVehicleId() + " - " + vehicle.getVehicleSummary()
+                    + " - $" + String.format("%.2f", vehicle.getBasePricePerDay()) + "/day");
+        }
+    }
+
+    private static void createRental() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("         CREATE RENTAL");
+        System.out.println("=".repeat(40));
+
+        // First, show available vehicles
+        List<Vehicle> availableVehicles = agency.getAvailableVehicles();
+        if (availableVehicles.isEmpty()) {
+            System.out.println("❌ No vehicles available for rental!");
+            return;
+        }
+
+        System.out.println("Available Vehicles:");
+        for (int i = 0; i < availableVehicles.size(); i++) {
+            Vehicle vehicle = availableVehicles.get(i);
+            System.out.println((i + 1) + ". " + vehicle.getVehicleId() + " - " + vehicle.getVehicleSummary());
+        }
+
+        String customerId = getStringInput("\nCustomer ID: ");
+        Customer customer = agency.findCustomer(customerId);
+        if (customer == null) {
+            System.out.println("❌ Customer not found!");
+            return;
+        }
+
+        String vehicleId = getStringInput("Vehicle ID: ");
+        Vehicle vehicle = agency.findVehicle(vehicleId);
+        if (vehicle == null) {
+            System.out.println("❌ Vehicle not found!");
+            return;
+        }
+
+        LocalDate startDate = getDateInput("Start Date (YYYY-MM-DD): ");
+        LocalDate endDate = getDateInput("End Date (YYYY-MM-DD): ");
+
+        if (endDate.isBefore(startDate) || endDate.isEqual(startDate)) {
+            System.out.println("❌ End date must be after start date!");
+            return;
+        }
+
+        Rental rental = agency.createRental(customerId, vehicleId, startDate, endDate);
+        if (rental != null) {
+            System.out.println("\n✅ Rental created successfully!");
+            rental.displayRentalInfo();
+        }
+    }
+
+    private static void returnVehicle() {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("         RETURN VEHICLE");
+        System.out.println("=".repeat(40));
+
+        String rentalId = getStringInput("Rental ID: ");
+        agency.returnVehicle(rentalId);
+    }
+
+    private static void viewAllCustomers() {
+        agency.displayCustomers();
+    }
+
+    private static void viewActiveRentals() {
+        agency.displayActiveRentals();
+    }
+
+    private static void viewOverdueRentals() {
+        System.out.println("\n=== OVERDUE RENTALS ===");
+        List<Rental> overdue = agency.getOverdueRentals();
+        for (Rental rental : overdue) {
+            System.out.println(rental.getRentalSummary());
+        }
+        System.out.println("Total Overdue Rentals: " + overdue.size());
+    }
+
+    private static void exportRentalHistory() {
+        String location = getStringInput("Export file (.csv or .json): ");
+        RentalExporter.Format format = location.toLowerCase().endsWith(".json")
+                ? RentalExporter.Format.JSON : RentalExporter.Format.CSV;
+        try {
+            long count = new RentalExporter(agency).export(new RentalQuery(), format, Paths.get(location));
+            System.out.println("✅ Exported " + count + " rental(s) to " + location);
+        } catch (IOException e) {
+            System.out.println("❌ Could not export rentals: " + e.getMessage());
+        }
+    }
+
+    private static void importFromCsv(boolean vehicles) {
+        System.out.println("Expected columns: " + (vehicles ? FleetImporter.VEHICLE_HEADER : FleetImporter.CUSTOMER_HEADER));
+        String location = getStringInput("CSV file: ");
+        FleetImporter importer = new FleetImporter(agency);
+        try {
+            ImportReport report = vehicles ? importer.importVehicles(Paths.get(location))
+                    : importer.importCustomers(Paths.get(location));
+            System.out.println("✅ " + report);
+            int shown = 0;
+            for (ImportError error : report.getErrors()) {
+                if (shown++ == 20) {
+                    System.out.println("   ... and " + (report.getErrors().size() - 20) + " more");
+                    break;
+                }
+                System.out.println("   ❌ " + error);
+            }
+            nextCustomerId = agency.getTotalCustomerCount() + 1;
+            nextVehicleId = agency.getTotalVehicleCount() + 1;
+        } catch (IOException e) {
+            System.out.println("❌ Could not import " + location + ": " + e.getMessage());
+        }
+    }
+
+    private static void viewRentalHistory() {
+        agency.displayRentalHistory();
+    }
+
+    private static void viewAgencyStatistics() {
+        agency.displayAgencyStatistics();
+    }
+
+    // Helper methods for input validation
+    private static String getStringInput(String prompt) {
+        System.out.print(prompt);
+        String input = scanner.nextLine().trim();
+        while (input.isEmpty()) {
+            System.out.print("Please enter a valid value: ");
+            input = scanner.nextLine().trim();
+        }
+        return input;
+    }
+
+    private static String getOptionalInput(String prompt) {
+        System.out.print(prompt);
+        String input = scanner.nextLine().trim();
+        return input.isEmpty() ? null : input;
+    }
+
+    private static int getIntInput(String prompt) {
+        while (true) {
+            try {
+                System.out.print(prompt);
+                int value = Integer.parseInt(scanner.nextLine().trim());
+                return value;
+            } catch (NumberFormatException e) {
+                System.out.println("❌ Please enter a valid number!");
+            }
+        }
+    }
+
+    private static double getDoubleInput(String prompt) {
+        while (true) {
+            try {
+                System.out.print(prompt);
+                double value = Double.parseDouble(scanner.nextLine().trim());
+                if (value < 0) {
+                    System.out.println("❌ Please enter a positive number!");
+                    continue;
+                }
+                return value;
+            } catch (NumberFormatException e) {
+                System.out.println("❌ Please enter a valid number!");
+            }
+        }
+    }
+
+    private static LocalDate getDateInput(String prompt) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        while (true) {
+            try {
+                System.out.print(prompt);
+                String dateString = scanner.nextLine().trim();
+                return LocalDate.parse(dateString, formatter);
+            } catch (DateTimeParseException e) {
+                System.out.println("❌ Please enter date in YYYY-MM-DD format!");
+            }
+        }
+    }
+}
+
@@ -0,0 +1,250 @@
+package carrental;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// ColumnarFleetStore class holding the searchable vehicle attributes as columns.
+// Each vehicle gets a slot; year, mileage and price live in primitive arrays,
+// availability and vehicle type in bitsets, and the string attributes as the
+// vehicles' own symbol codes. A search walks the columns and only
+// touches a Vehicle object once it is known to match. Slots freed by removed
+// vehicles are reused. Availability is an AtomicBitmap flipped with CAS under the
+// read lock, so rentals and returns run alongside searches; adding or removing a
+// vehicle, or changing its mileage or price, takes the write lock.
+public class ColumnarFleetStore implements FleetStore {
+    private static final int NONE = SymbolTable.NONE; // Code for an attribute the vehicle type lacks, or an unknown string
+    private static final int ANY = -2;  // Query code for an unset criterion
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock;
+    private final Map<Vehicle, Integer> slots;
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+
+    private Vehicle[] vehicles;
+    private int[] years;
+    private double[] mileages;
+    private double[] prices;
+    private int[] brands;
+    private int[] models;
+    private int[] colors;
+    private int[] fuelTypes;
+    private int[] transmissions;
+    private int[] doors;
+    private int[] engineSizes;
+    private int[] powerCategories;
+    private final BitSet occupied;
+    private final AtomicBitmap available;
+    private final BitSet cars;
+    private final BitSet airConditioned;
+
+    // Constructor
+    public ColumnarFleetStore() {
+        this.lock = new ReentrantReadWriteLock();
+        this.slots = new HashMap<>();
+        this.freeSlots = new int[16];
+        this.vehicles = new Vehicle[INITIAL_CAPACITY];
+        this.years = new int[INITIAL_CAPACITY];
+        this.mileages = new double[INITIAL_CAPACITY];
+        this.prices = new double[INITIAL_CAPACITY];
+        this.brands = new int[INITIAL_CAPACITY];
+        this.models = new int[INITIAL_CAPACITY];
+        this.colors = new int[INITIAL_CAPACITY];
+        this.fuelTypes = new int[INITIAL_CAPACITY];
+        this.transmissions = new int[INITIAL_CAPACITY];
+        this.doors = new int[INITIAL_CAPACITY];
+        this.engineSizes = new int[INITIAL_CAPACITY];
+        this.powerCategories = new int[INITIAL_CAPACITY];
+        this.occupied = new BitSet();
+        this.available = new AtomicBitmap(INITIAL_CAPACITY);
+        this.cars = new BitSet();
+        this.airConditioned = new BitSet();
+    }
+
+    @Override
+    public void add(Vehicle vehicle) {
+        lock.writeLock().lock();
+        try {
+            if (slots.containsKey(vehicle)) {
+                return;
+            }
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+            slots.put(vehicle, slot);
+            vehicles[slot] = vehicle;
+            brands[slot] = vehicle.getBrandCode();
+            models[slot] = vehicle.getModelCode();
+            colors[slot] = vehicle.getColorCode();
+            if (vehicle instanceof Car) {
+                Car car = (Car) vehicle;
+                fuelTypes[slot] = car.getFuelTypeCode();
+                transmissions[slot] = car.getTransmissionTypeCode();
+                doors[slot] = car.getNumberOfDoors();
+                engineSizes[slot] = 0;
+                powerCategories[slot] = NONE;
+                cars.set(slot);
+                airConditioned.set(slot, car.hasAirConditioning());
+            } else {
+                Motorcycle motorcycle = (Motorcycle) vehicle;
+                fuelTypes[slot] = NONE;
+                transmissions[slot] = NONE;
+                doors[slot] = 0;
+                engineSizes[slot] = motorcycle.getEngineSize();
+                powerCategories[slot] = Vehicle.SYMBOLS.intern(motorcycle.getPowerCategory());
+                cars.clear(slot);
+                airConditioned.clear(slot);
+            }
+            occupied.set(slot);
+            write(slot, vehicle);
+            available.set(slot, vehicle.isAvailable());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Vehicle vehicle) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(vehicle);
+            if (slot == null) {
+                return;
+            }
+            vehicles[slot] = null;
+            occupied.clear(slot);
+            available.set(slot, false);
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateAvailability(Vehicle vehicle) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(vehicle);
+            if (slot != null) {
+                FleetStores.trackAvailability(available, slot, vehicle);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Vehicle vehicle) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(vehicle);
+            if (slot != null) {
+                write(slot, vehicle);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Vehicle> search(VehicleQuery query) {
+        List<Vehicle> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // Unknown strings have no code, so nothing can match them
+            int brand = code(query.getBrand());
+            int model = code(query.getModel());
+            int color = code(query.getColor());
+            int fuel = code(query.getFuelType());
+            int transmission = code(query.getTransmissionType());
+            int power = code(query.getPowerCategory());
+            if (brand == NONE || model == NONE || color == NONE || fuel == NONE || transmission == NONE
+                    || power == NONE) {
+                return matches;
+            }
+
+            BitSet candidates = FleetStores.candidates(query, occupied, available, cars, airConditioned);
+            if (candidates == null) {
+                return matches;
+            }
+            boolean motorcyclesOnly = FleetStores.motorcyclesOnly(query);
+
+            int minYear = query.getMinYear();
+            int maxYear = query.getMaxYear();
+            double maxMileage = query.getMaxMileage();
+            double minPrice = query.getMinPrice();
+            double maxPrice = query.getMaxPrice();
+            int door = query.getNumberOfDoors() != null ? query.getNumberOfDoors() : ANY;
+            int minEngineSize = query.getMinEngineSize();
+            int maxEngineSize = query.getMaxEngineSize();
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                int year = years[slot];
+                double price = prices[slot];
+                if (year >= minYear && year <= maxYear && mileages[slot] <= maxMileage
+                        && price >= minPrice && price <= maxPrice
+                        && (brand == ANY || brands[slot] == brand)
+                        && (model == ANY || models[slot] == model)
+                        && (color == ANY || colors[slot] == color)
+                        && (fuel == ANY || fuelTypes[slot] == fuel)
+                        && (transmission == ANY || transmissions[slot] == transmission)
+                        && (door == ANY || doors[slot] == door)
+                        && (!motorcyclesOnly || (engineSizes[slot] >= minEngineSize && engineSizes[slot] <= maxEngineSize))
+                        && (power == ANY || powerCategories[slot] == power)) {
+                    matches.add(vehicles[slot]);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int code(String value) {
+        return value == null ? ANY : Vehicle.SYMBOLS.lookup(value);
+    }
+
+    // Copies the mutable attributes other than availability into the slot
+    private void write(int slot, Vehicle vehicle) {
+        years[slot] = vehicle.getYear();
+        mileages[slot] = vehicle.getMileage();
+        prices[slot] = vehicle.getBasePricePerDay();
+    }
+
+    private int nextSlot() {
+        if (highWater == vehicles.length) {
+            int capacity = vehicles.length * 2;
+            vehicles = Arrays.copyOf(vehicles, capacity);
+            years = Arrays.copyOf(years, capacity);
+            mileages = Arrays.copyOf(mileages, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            brands = Arrays.copyOf(brands, capacity);
+            models = Arrays.copyOf(models, capacity);
+            colors = Arrays.copyOf(colors, capacity);
+            fuelTypes = Arrays.copyOf(fuelTypes, capacity);
+            transmissions = Arrays.copyOf(transmissions, capacity);
+            doors = Arrays.copyOf(doors, capacity);
+            engineSizes = Arrays.copyOf(engineSizes, capacity);
+            powerCategories = Arrays.copyOf(powerCategories, capacity);
+            available.ensureCapacity(capacity);
+        }
+        return highWater++;
+    }
+}
@@ -0,0 +1,9 @@
+package carrental;
+
+// ConsoleEventSink class printing each event immediately, for the interactive console
+public class ConsoleEventSink implements RentalEventSink {
+    @Override
+    public void publish(RentalEvent event) {
+        System.out.println(event.format());
+    }
+}
@@ -1,3 +1,5 @@
+package carrental;
+
 // Customer class demonstrating Encapsulation
 public class Customer {
     // Private fields (Encapsulation)
@@ -10,7 +12,8 @@ public class Customer {
     private int age;
     private boolean hasMotorcycleLicense;
     private double creditLimit;
-    private double currentBalance;
+    private CustomerLedger ledger; // Balance and credit holds, kept in cents
+    private volatile RentalAgency agency; // Agency the customer is registered with, if any
 
     // Constructor
     public Customer(String customerId, String firstName, String lastName, String email,
@@ -25,7 +28,7 @@ public class Customer {
         this.age = age;
         this.hasMotorcycleLicense = hasMotorcycleLicense;
         this.creditLimit = creditLimit;
-        this.currentBalance = 0.0;
+        this.ledger = new CustomerLedger(CustomerLedger.toCents(creditLimit));
     }
 
     // Getter methods (Encapsulation)
@@ -38,7 +41,8 @@ public class Customer {
     public int getAge() { return age; }
     public boolean hasMotorcycleLicense() { return hasMotorcycleLicense; }
     public double getCreditLimit() { return creditLimit; }
-    public double getCurrentBalance() { return currentBalance; }
+    public double getCurrentBalance() { return CustomerLedger.toDollars(ledger.getBalanceCents()); }
+    public CustomerLedger getLedger() { return ledger; }
 
     // Setter methods (Encapsulation with validation)
     public void setEmail(String email) {
@@ -60,6 +64,7 @@ public class Customer {
     public void setCreditLimit(double creditLimit) {
         if (creditLimit >= 0) {
             this.creditLimit = creditLimit;
+            ledger.setCreditLimitCents(CustomerLedger.toCents(creditLimit));
         } else {
             System.out.println("Credit limit cannot be negative!");
         }
@@ -76,46 +81,112 @@ public class Customer {
 
     // Method to check if customer can rent a vehicle
     public boolean canRentVehicle(Vehicle vehicle, double rentalCost) {
-        // Age check
-        if (age < 18) {
-            System.out.println("Customer must be at least 18 years old to rent a vehicle.");
+        BookingStatus status = checkEligibility(vehicle, rentalCost);
+        if (!status.isAccepted()) {
+            RentalEvents.emit(RentalEventType.RENTAL_REJECTED, status);
             return false;
         }
+        return true;
+    }
+
+    // Method to check rental eligibility and return the reason code instead of printing
+    public BookingStatus checkEligibility(Vehicle vehicle, double rentalCost) {
+        // Age check
+        if (!getAgeBand().canRent()) {
+            return BookingStatus.UNDERAGE;
+        }
 
         // Motorcycle license check
         if (vehicle instanceof Motorcycle) {
             Motorcycle motorcycle = (Motorcycle) vehicle;
             if (motorcycle.requiresSpecialLicense() && !hasMotorcycleLicense) {
-                System.out.println("Customer needs a motorcycle license to rent this vehicle.");
-                return false;
+                return BookingStatus.MOTORCYCLE_LICENSE_REQUIRED;
             }
         }
 
-        // Credit check
-        if (currentBalance + rentalCost > creditLimit) {
-            System.out.println("Rental cost exceeds customer's credit limit.");
-            return false;
+        // Credit check (outstanding holds count against the limit)
+        if (!ledger.hasCreditFor(CustomerLedger.toCents(rentalCost))) {
+            return BookingStatus.CREDIT_LIMIT_EXCEEDED;
         }
 
-        return true;
+        return BookingStatus.ACCEPTED;
     }
 
+    RentalAgency getAgency() { return agency; }
+    void setAgency(RentalAgency agency) { this.agency = agency; }
+
     // Method to add charges to customer's balance
     public void addCharge(double amount) {
         if (amount > 0) {
-            currentBalance += amount;
-            System.out.println("$" + String.format("%.2f", amount) + " charged to " + getFullName());
+            RentalJournal journal = journal();
+            if (journal != null) {
+                journal.logChargeAdded(customerId, amount);
+            }
         }
+        applyCharge(amount);
+    }
+
+    // Charges that follow from other journaled changes (rental completion) skip the journal
+    void applyCharge(double amount) {
+        applyCharge(null, amount);
+    }
+
+    // A charge for a rental converts the credit held for it at booking time
+    void applyCharge(String rentalId, double amount) {
+        if (amount > 0) {
+            ledger.charge(rentalId, CustomerLedger.toCents(amount));
+            RentalEvents.emit(RentalEventType.CHARGE_ADDED, this, amount);
+        }
+    }
+
+    // Methods to hold credit for a booking until it is charged or released
+    boolean reserveCredit(String rentalId, double amount) {
+        return ledger.reserve(rentalId, CustomerLedger.toCents(amount));
+    }
+
+    // Unchecked hold, for bookings already accepted (replay) and extensions
+    void holdCredit(String rentalId, double amount) {
+        ledger.forceReserve(rentalId, CustomerLedger.toCents(amount));
+    }
+
+    void releaseCredit(String rentalId) {
+        ledger.release(rentalId);
+    }
+
+    // A payment read back from the journal was accepted when it was made
+    void applyPayment(double amount) {
+        if (amount > 0) {
+            ledger.forcePay(CustomerLedger.toCents(amount));
+            RentalEvents.emit(RentalEventType.PAYMENT_RECEIVED, this, amount);
+        }
+    }
+
+    // Takes over the money of another instance of this customer (a branch's copy)
+    void mergeLedger(Customer duplicate) {
+        ledger.merge(duplicate.ledger);
     }
 
     // Method to make payment
     public void makePayment(double amount) {
-        if (amount > 0 && amount <= currentBalance) {
-            currentBalance -= amount;
-            System.out.println("Payment of $" + String.format("%.2f", amount) + " received from " + getFullName());
-        } else {
-            System.out.println("Invalid payment amount!");
+        long cents = CustomerLedger.toCents(amount);
+        boolean paid = false;
+        // Payments are serialized so the one journaled is the one applied; charges only
+        // raise the balance, so a payment that fits here still fits when it is applied
+        synchronized (ledger) {
+            if (cents > 0 && cents <= ledger.getBalanceCents()) {
+                RentalJournal journal = journal();
+                if (journal != null) {
+                    journal.logPaymentReceived(customerId, amount);
+                }
+                paid = ledger.pay(cents);
+            }
         }
+        RentalEvents.emit(paid ? RentalEventType.PAYMENT_RECEIVED : RentalEventType.PAYMENT_REJECTED, this, amount);
+    }
+
+    private RentalJournal journal() {
+        RentalAgency owner = agency;
+        return owner != null ? owner.getJournal() : null;
     }
 
     // Method to display customer information
@@ -129,21 +200,18 @@ public class Customer {
         System.out.println("Age: " + age);
         System.out.println("Motorcycle License: " + (hasMotorcycleLicense ? "Yes" : "No"));
         System.out.println("Credit Limit: $" + String.format("%.2f", creditLimit));
-        System.out.println("Current Balance: $" + String.format("%.2f", currentBalance));
-        System.out.println("Available Credit: $" + String.format("%.2f", (creditLimit - currentBalance)));
+        System.out.println("Current Balance: $" + String.format("%.2f", getCurrentBalance()));
+        System.out.println("Available Credit: $" + String.format("%.2f", CustomerLedger.toDollars(ledger.getAvailableCreditCents())));
         System.out.println("============================");
     }
 
     // Method to check customer's rental eligibility
     public String getRentalEligibilityStatus() {
-        if (age < 18) {
-            return "Ineligible - Under 18";
-        } else if (age < 21) {
-            return "Restricted - Young Driver";
-        } else if (age < 25) {
-            return "Standard - Additional fees may apply";
-        } else {
-            return "Eligible - Standard rates";
-        }
+        return getAgeBand().getDescription();
+    }
+
+    // Method to get the customer's age band
+    public AgeBand getAgeBand() {
+        return AgeBand.forAge(age);
     }
 }
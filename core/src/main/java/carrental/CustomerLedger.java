@@ -0,0 +1,132 @@
+package carrental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// CustomerLedger class tracking one customer's money in integer cents.
+// The balance is what the customer owes. Exposure is the balance plus every
+// outstanding credit hold, and it is what the credit limit is checked against.
+// Reserving credit is a single compare-and-set on the exposure, so two bookings
+// for the same account can never both squeeze under the limit. Reads are one
+// volatile load. Every change is appended to a per-customer transaction log.
+public class CustomerLedger {
+    private final AtomicLong balanceCents;
+    private final AtomicLong exposureCents;
+    private volatile long creditLimitCents;
+    private final Map<String, Long> holds; // Rental ID -> cents held
+    private final Queue<LedgerEntry> transactions;
+
+    // Constructor
+    public CustomerLedger(long creditLimitCents) {
+        this.balanceCents = new AtomicLong();
+        this.exposureCents = new AtomicLong();
+        this.creditLimitCents = creditLimitCents;
+        this.holds = new ConcurrentHashMap<>();
+        this.transactions = new ConcurrentLinkedQueue<>();
+    }
+
+    // Conversions between dollar amounts and cents, rounded to the nearest cent
+    public static long toCents(double amount) { return Math.round(amount * 100.0); }
+    public static double toDollars(long cents) { return cents / 100.0; }
+
+    // Getter methods
+    public long getBalanceCents() { return balanceCents.get(); }
+    public long getExposureCents() { return exposureCents.get(); }
+    public long getHeldCents() { return exposureCents.get() - balanceCents.get(); }
+    public long getCreditLimitCents() { return creditLimitCents; }
+    public long getAvailableCreditCents() { return creditLimitCents - exposureCents.get(); }
+    public int getHoldCount() { return holds.size(); }
+
+    public void setCreditLimitCents(long creditLimitCents) { this.creditLimitCents = creditLimitCents; }
+
+    // Method to test whether an amount would fit under the limit, without holding it
+    public boolean hasCreditFor(long cents) {
+        return exposureCents.get() + cents <= creditLimitCents;
+    }
+
+    // Method to check the credit and hold the amount in one atomic step
+    public boolean reserve(String rentalId, long cents) {
+        long exposure;
+        do {
+            exposure = exposureCents.get();
+            if (exposure + cents > creditLimitCents) {
+                return false;
+            }
+        } while (!exposureCents.compareAndSet(exposure, exposure + cents));
+        holds.merge(rentalId, cents, Long::sum);
+        log(LedgerEntryType.HOLD, cents, rentalId);
+        return true;
+    }
+
+    // Method to hold an amount without a credit check (replaying bookings already accepted)
+    public void forceReserve(String rentalId, long cents) {
+        exposureCents.addAndGet(cents);
+        holds.merge(rentalId, cents, Long::sum);
+        log(LedgerEntryType.HOLD, cents, rentalId);
+    }
+
+    // Method to drop a hold whose booking did not go through
+    public void release(String rentalId) {
+        Long held = holds.remove(rentalId);
+        if (held != null) {
+            exposureCents.addAndGet(-held);
+            log(LedgerEntryType.HOLD_RELEASED, held, rentalId);
+        }
+    }
+
+    // Method to charge an amount, converting the rental's hold if it has one
+    public void charge(String rentalId, long cents) {
+        Long held = rentalId != null ? holds.remove(rentalId) : null;
+        if (held != null) {
+            log(LedgerEntryType.HOLD_RELEASED, held, rentalId);
+        }
+        balanceCents.addAndGet(cents);
+        exposureCents.addAndGet(cents - (held != null ? held : 0L));
+        log(LedgerEntryType.CHARGE, cents, rentalId);
+    }
+
+    // Method to apply a payment; fails if it is not positive or exceeds the balance
+    public boolean pay(long cents) {
+        long balance;
+        do {
+            balance = balanceCents.get();
+            if (cents <= 0 || cents > balance) {
+                return false;
+            }
+        } while (!balanceCents.compareAndSet(balance, balance - cents));
+        exposureCents.addAndGet(-cents);
+        log(LedgerEntryType.PAYMENT, cents, null);
+        return true;
+    }
+
+    // Method to apply a payment without a balance check (replaying a payment already
+    // accepted, whose charges may be journaled at another branch)
+    public void forcePay(long cents) {
+        balanceCents.addAndGet(-cents);
+        exposureCents.addAndGet(-cents);
+        log(LedgerEntryType.PAYMENT, cents, null);
+    }
+
+    // Method to take over the balance and holds of another ledger for the same customer
+    void merge(CustomerLedger other) {
+        long balance = other.balanceCents.get();
+        balanceCents.addAndGet(balance);
+        exposureCents.addAndGet(other.exposureCents.get());
+        other.holds.forEach((rentalId, cents) -> holds.merge(rentalId, cents, Long::sum));
+        log(LedgerEntryType.MERGED, balance, null);
+    }
+
+    // Method to copy the transaction log, oldest first
+    public List<LedgerEntry> getTransactions() {
+        return new ArrayList<>(transactions);
+    }
+
+    private void log(LedgerEntryType type, long cents, String reference) {
+        transactions.add(new LedgerEntry(type, cents, reference, System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,63 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// FleetEligibility class holding one customer's eligibility for every vehicle in a
+// pricing engine: a reason code and a quote per slot, in the engine's slot order.
+// Vehicles the customer can book have the ACCEPTED code.
+public class FleetEligibility {
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    private final Customer customer;
+    private final LocalDate startDate;
+    private final int days;
+    private final Vehicle[] vehicles; // Shared with the engine, never modified
+    private final double[] quotes;
+    private final byte[] statuses;    // BookingStatus ordinals
+
+    // Constructor
+    FleetEligibility(Customer customer, LocalDate startDate, int days, Vehicle[] vehicles, double[] quotes,
+                     byte[] statuses) {
+        this.customer = customer;
+        this.startDate = startDate;
+        this.days = days;
+        this.vehicles = vehicles;
+        this.quotes = quotes;
+        this.statuses = statuses;
+    }
+
+    // Getter methods
+    public Customer getCustomer() { return customer; }
+    public LocalDate getStartDate() { return startDate; }
+    public int getDays() { return days; }
+    public int size() { return vehicles.length; }
+    public Vehicle getVehicle(int slot) { return vehicles[slot]; }
+    public double getQuote(int slot) { return quotes[slot]; }
+    public BookingStatus getStatus(int slot) { return STATUSES[statuses[slot]]; }
+
+    // Method to count the vehicles with a given reason code
+    public int count(BookingStatus status) {
+        byte code = (byte) status.ordinal();
+        int count = 0;
+        for (byte value : statuses) {
+            if (value == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Method to list the vehicles the customer can book
+    public List<Vehicle> getRentableVehicles() {
+        byte accepted = (byte) BookingStatus.ACCEPTED.ordinal();
+        List<Vehicle> rentable = new ArrayList<>();
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] == accepted) {
+                rentable.add(vehicles[i]);
+            }
+        }
+        return rentable;
+    }
+}
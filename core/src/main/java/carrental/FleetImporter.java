@@ -0,0 +1,341 @@
+package carrental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+// FleetImporter class bulk-loading vehicles and customers from CSV files.
+//
+// The file is split at line boundaries into chunks that are memory-mapped and
+// parsed in parallel on a fork-join pool. Rows that fail to parse, repeat an ID
+// seen earlier in the file, or clash with an ID already in the agency are
+// reported per line; every other row goes into the agency in one bulk step
+// (one journal group commit, one fleet lock hold, one event).
+//
+// Vehicle files have one row per car or motorcycle; columns that do not apply
+// to the row's type are left empty. Fields may be quoted ("a, b"), but may not
+// span lines. A header row is required.
+public class FleetImporter {
+    public static final String VEHICLE_HEADER = "type,vehicleId,brand,model,year,color,mileage,pricePerDay,"
+            + "doors,fuelType,transmission,airConditioning,engineSize,motorcycleType,hasSidecar,specialLicense";
+    public static final String CUSTOMER_HEADER =
+            "customerId,firstName,lastName,email,phone,license,age,motorcycleLicense,creditLimit";
+
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+    private static final int MAX_CHUNK_BYTES = 64 << 20;
+
+    private final RentalAgency agency;
+    private final ForkJoinPool pool;
+
+    // Constructors
+    public FleetImporter(RentalAgency agency) {
+        this(agency, ForkJoinPool.commonPool());
+    }
+
+    public FleetImporter(RentalAgency agency, ForkJoinPool pool) {
+        this.agency = agency;
+        this.pool = pool;
+    }
+
+    // Method to import a vehicle CSV file
+    public ImportReport importVehicles(Path path) throws IOException {
+        long start = System.nanoTime();
+        Parsed<Vehicle> parsed = parse(path, VEHICLE_HEADER, FleetImporter::parseVehicle);
+        Map<String, Long> lines = new HashMap<>();
+        List<Vehicle> unique = dedupe(parsed, Vehicle::getVehicleId, "vehicle", lines);
+        for (Vehicle vehicle : agency.addVehicles(unique)) {
+            parsed.errors.add(new ImportError(lines.get(vehicle.getVehicleId()),
+                    "Vehicle " + vehicle.getVehicleId() + " is already in the fleet"));
+        }
+        return report(parsed, System.nanoTime() - start);
+    }
+
+    // Method to import a customer CSV file
+    public ImportReport importCustomers(Path path) throws IOException {
+        long start = System.nanoTime();
+        Parsed<Customer> parsed = parse(path, CUSTOMER_HEADER, FleetImporter::parseCustomer);
+        Map<String, Long> lines = new HashMap<>();
+        List<Customer> unique = dedupe(parsed, Customer::getCustomerId, "customer", lines);
+        for (Customer customer : agency.registerCustomers(unique)) {
+            parsed.errors.add(new ImportError(lines.get(customer.getCustomerId()),
+                    "Customer " + customer.getCustomerId() + " is already registered"));
+        }
+        return report(parsed, System.nanoTime() - start);
+    }
+
+    private static ImportReport report(Parsed<?> parsed, long elapsedNanos) {
+        parsed.errors.sort(Comparator.comparingLong(ImportError::getLineNumber));
+        return new ImportReport(parsed.rowsRead, parsed.rowsRead - parsed.errors.size(), parsed.errors, elapsedNanos);
+    }
+
+    // Keeps the first row for each ID; later repeats are errors
+    private static <T> List<T> dedupe(Parsed<T> parsed, Function<T, String> id, String kind, Map<String, Long> lines) {
+        List<T> unique = new ArrayList<>(parsed.records.size());
+        for (int i = 0; i < parsed.records.size(); i++) {
+            T record = parsed.records.get(i);
+            long line = parsed.lines.get(i);
+            Long first = lines.putIfAbsent(id.apply(record), line);
+            if (first == null) {
+                unique.add(record);
+            } else {
+                parsed.errors.add(new ImportError(line, "Duplicate " + kind + " ID " + id.apply(record)
+                        + " (first on line " + first + ")"));
+            }
+        }
+        return unique;
+    }
+
+    // Splits the file into chunks, parses them in parallel and merges them in file order
+    private <T> Parsed<T> parse(Path path, String header, Function<String[], T> rowParser) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = nextLine(channel, 0, size);
+            String found = dataStart > 0 ? readHeader(channel, dataStart) : "";
+            if (!found.equals(header)) {
+                throw new IOException("Expected header \"" + header + "\" but found \"" + found + "\"");
+            }
+
+            long target = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES,
+                    (size - dataStart) / (pool.getParallelism() * 4L)));
+            List<ForkJoinTask<Chunk<T>>> tasks = new ArrayList<>();
+            long from = dataStart;
+            while (from < size) {
+                long to = from + target >= size ? size : nextLine(channel, from + target, size);
+                long chunkFrom = from;
+                tasks.add(pool.submit(() -> parseChunk(channel, chunkFrom, to, rowParser)));
+                from = to;
+            }
+
+            Parsed<T> parsed = new Parsed<>();
+            long lineBase = 2; // Line 1 is the header
+            for (ForkJoinTask<Chunk<T>> task : tasks) {
+                Chunk<T> chunk;
+                try {
+                    chunk = task.join();
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                for (int i = 0; i < chunk.records.size(); i++) {
+                    parsed.records.add(chunk.records.get(i));
+                    parsed.lines.add(lineBase + chunk.lines.get(i));
+                }
+                for (ImportError error : chunk.errors) {
+                    parsed.errors.add(new ImportError(lineBase + error.getLineNumber(), error.getMessage()));
+                }
+                parsed.rowsRead += chunk.rowsRead;
+                lineBase += chunk.lineCount;
+            }
+            return parsed;
+        }
+    }
+
+    // Parses the lines in [from, to); line numbers in the result are relative to the chunk
+    private static <T> Chunk<T> parseChunk(FileChannel channel, long from, long to, Function<String[], T> rowParser) {
+        CharBuffer text;
+        try {
+            text = StandardCharsets.UTF_8.decode(channel.map(FileChannel.MapMode.READ_ONLY, from, to - from));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Chunk<T> chunk = new Chunk<>();
+        List<String> fields = new ArrayList<>();
+        int lineStart = 0;
+        int length = text.length();
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && text.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > lineStart) {
+                chunk.rowsRead++;
+                try {
+                    split(text, lineStart, contentEnd, fields);
+                    chunk.records.add(rowParser.apply(fields.toArray(new String[0])));
+                    chunk.lines.add(chunk.lineCount);
+                } catch (IllegalArgumentException e) {
+                    chunk.errors.add(new ImportError(chunk.lineCount, e.getMessage()));
+                }
+            }
+            chunk.lineCount++;
+            lineStart = lineEnd + 1;
+        }
+        return chunk;
+    }
+
+    // Splits one CSV line; quoted fields may contain commas and doubled quotes
+    private static void split(CharSequence text, int from, int to, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < to && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+    }
+
+    // Returns the offset just past the first newline at or after position, or size
+    private static long nextLine(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long at = position;
+        while (at < size) {
+            buffer.clear();
+            int read = channel.read(buffer, at);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return at + i + 1;
+                }
+            }
+            at += read;
+        }
+        return size;
+    }
+
+    private static String readHeader(FileChannel channel, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(end, 64 * 1024));
+        channel.read(buffer, 0);
+        String line = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        int newline = line.indexOf('\n');
+        line = newline >= 0 ? line.substring(0, newline) : line;
+        if (line.startsWith("\uFEFF")) { // Byte order mark
+            line = line.substring(1);
+        }
+        return line.trim();
+    }
+
+    // Row parsers; any IllegalArgumentException becomes an error for the row
+    private static Vehicle parseVehicle(String[] fields) {
+        expectColumns(fields, 16);
+        String vehicleId = text(fields[1], "vehicleId");
+        String brand = text(fields[2], "brand");
+        String model = text(fields[3], "model");
+        int year = integer(fields[4], "year");
+        String color = text(fields[5], "color");
+        double mileage = number(fields[6], "mileage");
+        double pricePerDay = number(fields[7], "pricePerDay");
+        if (mileage < 0) {
+            throw new IllegalArgumentException("mileage cannot be negative");
+        }
+        if (pricePerDay <= 0) {
+            throw new IllegalArgumentException("pricePerDay must be positive");
+        }
+        VehicleType type = VehicleType.fromName(fields[0]);
+        if (type == VehicleType.CAR) {
+            return new Car(vehicleId, brand, model, year, color, mileage, pricePerDay, integer(fields[8], "doors"),
+                    text(fields[9], "fuelType"), text(fields[10], "transmission"),
+                    bool(fields[11], "airConditioning"));
+        } else if (type == VehicleType.MOTORCYCLE) {
+            return new Motorcycle(vehicleId, brand, model, year, color, mileage, pricePerDay,
+                    integer(fields[12], "engineSize"), text(fields[13], "motorcycleType"),
+                    bool(fields[14], "hasSidecar"), bool(fields[15], "specialLicense"));
+        }
+        throw new IllegalArgumentException("Unknown vehicle type \"" + fields[0] + "\"");
+    }
+
+    private static Customer parseCustomer(String[] fields) {
+        expectColumns(fields, 9);
+        double creditLimit = number(fields[8], "creditLimit");
+        if (creditLimit < 0) {
+            throw new IllegalArgumentException("creditLimit cannot be negative");
+        }
+        return new Customer(text(fields[0], "customerId"), text(fields[1], "firstName"), text(fields[2], "lastName"),
+                fields[3], fields[4], text(fields[5], "license"), integer(fields[6], "age"),
+                bool(fields[7], "motorcycleLicense"), creditLimit);
+    }
+
+    private static void expectColumns(String[] fields, int count) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " columns but found " + fields.length);
+        }
+    }
+
+    private static String text(String value, String column) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    private static int integer(String value, String column) {
+        try {
+            return Integer.parseInt(text(value, column));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a whole number: \"" + value + "\"");
+        }
+    }
+
+    private static double number(String value, String column) {
+        try {
+            double number = Double.parseDouble(text(value, column));
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                throw new NumberFormatException();
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: \"" + value + "\"");
+        }
+    }
+
+    private static boolean bool(String value, String column) {
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes") || value.equals("1")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false") || value.equalsIgnoreCase("no") || value.equals("0")) {
+            return false;
+        }
+        throw new IllegalArgumentException(column + " is not true or false: \"" + value + "\"");
+    }
+
+    // Records and errors of one chunk, numbered from the chunk's first line
+    private static final class Chunk<T> {
+        final List<T> records = new ArrayList<>();
+        final List<Integer> lines = new ArrayList<>();
+        final List<ImportError> errors = new ArrayList<>();
+        int lineCount;
+        long rowsRead;
+    }
+
+    // Records and errors of the whole file, with file line numbers
+    private static final class Parsed<T> {
+        final List<T> records = new ArrayList<>();
+        final List<Long> lines = new ArrayList<>();
+        final List<ImportError> errors = new ArrayList<>();
+        long rowsRead;
+    }
+}
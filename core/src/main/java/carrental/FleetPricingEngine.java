@@ -0,0 +1,103 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+// FleetPricingEngine class: quotes one rental length for a whole fleet at once.
+// Each vehicle's rate card is copied into parallel primitive arrays, so a quote
+// is a single pass over flat arrays with no virtual calls or pointer chasing.
+// Quotes are computed in the same order as RateCard.quote and match it exactly.
+// The same arrays answer "which vehicles can this customer rent" for one customer
+// in a single pass, with the customer's age, license and credit read once.
+// The engine is a snapshot: build a new one after vehicles are added or repriced.
+public class FleetPricingEngine {
+    private final Vehicle[] vehicles;
+    private final double[] baseRates;
+    private final double[] firstSurcharges;
+    private final double[] secondSurcharges;
+    private final double[] thirdSurcharges;
+    private final int[] discountMinDays;
+    private final double[] discountFactors;
+    private final boolean[] licenseRequired;
+
+    // Constructor (callers iterating a synchronized list must hold its lock)
+    public FleetPricingEngine(Collection<? extends Vehicle> fleet) {
+        this.vehicles = fleet.toArray(new Vehicle[0]);
+        int size = vehicles.length;
+        this.baseRates = new double[size];
+        this.firstSurcharges = new double[size];
+        this.secondSurcharges = new double[size];
+        this.thirdSurcharges = new double[size];
+        this.discountMinDays = new int[size];
+        this.discountFactors = new double[size];
+        this.licenseRequired = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            RateCard card = vehicles[i].getRateCard();
+            baseRates[i] = card.getBaseRate();
+            firstSurcharges[i] = card.getFirstSurcharge();
+            secondSurcharges[i] = card.getSecondSurcharge();
+            thirdSurcharges[i] = card.getThirdSurcharge();
+            discountMinDays[i] = card.getDiscountMinDays();
+            discountFactors[i] = card.getDiscountFactor();
+            licenseRequired[i] = vehicles[i] instanceof Motorcycle && ((Motorcycle) vehicles[i]).requiresSpecialLicense();
+        }
+    }
+
+    // Getter methods; quote slots line up with getVehicle(slot)
+    public int size() { return vehicles.length; }
+    public Vehicle getVehicle(int slot) { return vehicles[slot]; }
+
+    // Method to quote every vehicle for the given number of days
+    public double[] quoteAll(int days) {
+        return quoteAll(days, new double[vehicles.length]);
+    }
+
+    // Method to quote into a caller-supplied array, for reuse across requests
+    public double[] quoteAll(int days, double[] quotes) {
+        if (quotes.length < vehicles.length) {
+            throw new IllegalArgumentException("Quote array too small: " + quotes.length + " < " + vehicles.length);
+        }
+        for (int i = 0; i < vehicles.length; i++) {
+            double price = baseRates[i] * days;
+            price += firstSurcharges[i] * days;
+            price += secondSurcharges[i] * days;
+            price += thirdSurcharges[i] * days;
+            // Multiplying by 1.0 is exact, so this matches the branching version
+            price *= days >= discountMinDays[i] ? discountFactors[i] : 1.0;
+            quotes[i] = price;
+        }
+        return quotes;
+    }
+
+    // Method to check one customer against every vehicle for a rental of the given
+    // number of days from startDate. Gives the same reason codes as createRental:
+    // a vehicle booked during those dates, or still out when the rental starts today,
+    // is VEHICLE_UNAVAILABLE, and the rest get Customer.checkEligibility's codes.
+    public FleetEligibility checkEligibility(Customer customer, LocalDate startDate, int days) {
+        boolean ofAge = customer.getAgeBand().canRent();
+        boolean licensed = customer.hasMotorcycleLicense();
+        long creditCents = customer.getLedger().getAvailableCreditCents();
+        LocalDate endDate = startDate.plusDays(days);
+        boolean startsNow = !startDate.isAfter(LocalDate.now());
+
+        double[] quotes = quoteAll(days);
+        byte[] statuses = new byte[vehicles.length];
+        for (int i = 0; i < vehicles.length; i++) {
+            BookingStatus status;
+            // The same test as RentalAgency.isBookable
+            if ((startsNow && !vehicles[i].isAvailable()) || !vehicles[i].isAvailableFor(startDate, endDate)) {
+                status = BookingStatus.VEHICLE_UNAVAILABLE;
+            } else if (!ofAge) {
+                status = BookingStatus.UNDERAGE;
+            } else if (licenseRequired[i] && !licensed) {
+                status = BookingStatus.MOTORCYCLE_LICENSE_REQUIRED;
+            } else if (CustomerLedger.toCents(quotes[i]) > creditCents) {
+                status = BookingStatus.CREDIT_LIMIT_EXCEEDED;
+            } else {
+                status = BookingStatus.ACCEPTED;
+            }
+            statuses[i] = (byte) status.ordinal();
+        }
+        return new FleetEligibility(customer, startDate, days, vehicles, quotes, statuses);
+    }
+}
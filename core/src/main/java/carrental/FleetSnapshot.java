@@ -0,0 +1,251 @@
+package carrental;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// FleetSnapshot class: a compact, memory-mapped binary image of an agency's
+// vehicles and customers.
+//
+// Layout: a fixed header, then fixed-width vehicle records sorted by vehicle ID,
+// fixed-width customer records sorted by customer ID, and a string table that
+// stores each distinct string once. Records point into the table by offset.
+// Balances are not stored: the journal replayed over the snapshot carries every
+// charge and payment, as it does the rentals.
+// Opening a snapshot maps the file and reads only the header; a record is decoded
+// when it is first asked for, so opening cost does not depend on the record count.
+public class FleetSnapshot implements AutoCloseable {
+    private static final int MAGIC = 0x43525353; // "CRSS"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final int VEHICLE_RECORD_SIZE = 56;
+    private static final int CUSTOMER_RECORD_SIZE = 40;
+
+    private static final byte CAR = 1;
+    private static final byte MOTORCYCLE = 2;
+    private static final byte FLAG_AIR_CONDITIONING = 1;
+    private static final byte FLAG_SIDECAR = 1;
+    private static final byte FLAG_SPECIAL_LICENSE = 2;
+
+    private final FileChannel channel;
+    private final ByteBuffer data;
+    private final int vehicleCount;
+    private final int customerCount;
+    private final int vehicleOffset;
+    private final int customerOffset;
+    private final int stringOffset;
+
+    private FleetSnapshot(FileChannel channel, ByteBuffer data) throws IOException {
+        this.channel = channel;
+        this.data = data;
+        if (data.limit() < HEADER_SIZE) {
+            throw new IOException("Fleet snapshot is truncated (" + data.limit() + " bytes)");
+        }
+        if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+            throw new IOException("Not a fleet snapshot (version " + VERSION + ")");
+        }
+        this.vehicleCount = data.getInt(8);
+        this.customerCount = data.getInt(12);
+        this.vehicleOffset = HEADER_SIZE;
+        this.customerOffset = vehicleOffset + vehicleCount * VEHICLE_RECORD_SIZE;
+        this.stringOffset = data.getInt(16);
+    }
+
+    // Method to map a snapshot file; only the header is read here
+    public static FleetSnapshot open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            data.order(ByteOrder.LITTLE_ENDIAN);
+            return new FleetSnapshot(channel, data);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Getter methods
+    public int getVehicleCount() { return vehicleCount; }
+    public int getCustomerCount() { return customerCount; }
+
+    // Method to binary-search the sorted vehicle records; -1 if absent
+    public int indexOfVehicle(String vehicleId) {
+        return search(vehicleOffset, VEHICLE_RECORD_SIZE, vehicleCount, 4, vehicleId);
+    }
+
+    public int indexOfCustomer(String customerId) {
+        return search(customerOffset, CUSTOMER_RECORD_SIZE, customerCount, 0, customerId);
+    }
+
+    // Method to decode one vehicle record into a new Car or Motorcycle
+    public Vehicle readVehicle(int index) {
+        int at = vehicleOffset + index * VEHICLE_RECORD_SIZE;
+        byte kind = data.get(at);
+        byte flags = data.get(at + 1);
+        String vehicleId = string(data.getInt(at + 4));
+        String brand = string(data.getInt(at + 8));
+        String model = string(data.getInt(at + 12));
+        String color = string(data.getInt(at + 16));
+        int year = data.getInt(at + 20);
+        double mileage = data.getDouble(at + 24);
+        double basePrice = data.getDouble(at + 32);
+        int size = data.getInt(at + 40);
+        if (kind == MOTORCYCLE) {
+            return new Motorcycle(vehicleId, brand, model, year, color, mileage, basePrice, size,
+                    string(data.getInt(at + 44)), (flags & FLAG_SIDECAR) != 0, (flags & FLAG_SPECIAL_LICENSE) != 0);
+        }
+        return new Car(vehicleId, brand, model, year, color, mileage, basePrice, size,
+                string(data.getInt(at + 44)), string(data.getInt(at + 48)), (flags & FLAG_AIR_CONDITIONING) != 0);
+    }
+
+    // Method to decode one customer record into a new Customer with no balance
+    public Customer readCustomer(int index) {
+        int at = customerOffset + index * CUSTOMER_RECORD_SIZE;
+        return new Customer(string(data.getInt(at)), string(data.getInt(at + 4)),
+                string(data.getInt(at + 8)), string(data.getInt(at + 12)), string(data.getInt(at + 16)),
+                string(data.getInt(at + 20)), data.getInt(at + 24), data.get(at + 28) != 0, data.getDouble(at + 32));
+    }
+
+    private int search(int base, int recordSize, int count, int idField, String id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compare = string(data.getInt(base + mid * recordSize + idField)).compareTo(id);
+            if (compare < 0) {
+                low = mid + 1;
+            } else if (compare > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Strings are stored as [int byte length][UTF-8 bytes]
+    private String string(int offset) {
+        int at = stringOffset + offset;
+        int length = data.getInt(at);
+        byte[] bytes = new byte[length];
+        data.get(at + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Method to write a snapshot of every vehicle and customer currently in the agency
+    public static void write(RentalAgency agency, Path path) throws IOException {
+        agency.loadSnapshot();
+        List<Vehicle> vehicles;
+        synchronized (agency.getFleet()) {
+            vehicles = new ArrayList<>(agency.getFleet());
+        }
+        List<Customer> customers;
+        synchronized (agency.getCustomers()) {
+            customers = new ArrayList<>(agency.getCustomers());
+        }
+        vehicles.sort(Comparator.comparing(Vehicle::getVehicleId));
+        customers.sort(Comparator.comparing(Customer::getCustomerId));
+
+        StringTable strings = new StringTable();
+        ByteBuffer records = ByteBuffer.allocate(vehicles.size() * VEHICLE_RECORD_SIZE
+                + customers.size() * CUSTOMER_RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (Vehicle vehicle : vehicles) {
+            int at = records.position();
+            records.putInt(at + 4, strings.add(vehicle.getVehicleId()));
+            records.putInt(at + 8, strings.add(vehicle.getBrand()));
+            records.putInt(at + 12, strings.add(vehicle.getModel()));
+            records.putInt(at + 16, strings.add(vehicle.getColor()));
+            records.putInt(at + 20, vehicle.getYear());
+            records.putDouble(at + 24, vehicle.getMileage());
+            records.putDouble(at + 32, vehicle.getBasePricePerDay());
+            if (vehicle instanceof Motorcycle) {
+                Motorcycle motorcycle = (Motorcycle) vehicle;
+                records.put(at, MOTORCYCLE);
+                records.put(at + 1, (byte) ((motorcycle.hasSidecar() ? FLAG_SIDECAR : 0)
+                        | (motorcycle.requiresSpecialLicense() ? FLAG_SPECIAL_LICENSE : 0)));
+                records.putInt(at + 40, motorcycle.getEngineSize());
+                records.putInt(at + 44, strings.add(motorcycle.getMotorcycleType()));
+            } else {
+                Car car = (Car) vehicle;
+                records.put(at, CAR);
+                records.put(at + 1, car.hasAirConditioning() ? FLAG_AIR_CONDITIONING : 0);
+                records.putInt(at + 40, car.getNumberOfDoors());
+                records.putInt(at + 44, strings.add(car.getFuelType()));
+                records.putInt(at + 48, strings.add(car.getTransmissionType()));
+            }
+            records.position(at + VEHICLE_RECORD_SIZE);
+        }
+        for (Customer customer : customers) {
+            int at = records.position();
+            records.putInt(at, strings.add(customer.getCustomerId()));
+            records.putInt(at + 4, strings.add(customer.getFirstName()));
+            records.putInt(at + 8, strings.add(customer.getLastName()));
+            records.putInt(at + 12, strings.add(customer.getEmail()));
+            records.putInt(at + 16, strings.add(customer.getPhoneNumber()));
+            records.putInt(at + 20, strings.add(customer.getLicenseNumber()));
+            records.putInt(at + 24, customer.getAge());
+            records.put(at + 28, (byte) (customer.hasMotorcycleLicense() ? 1 : 0));
+            records.putDouble(at + 32, customer.getCreditLimit());
+            records.position(at + CUSTOMER_RECORD_SIZE);
+        }
+        records.flip();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(vehicles.size()).putInt(customers.size())
+                .putInt(HEADER_SIZE + records.limit()).rewind();
+        ByteBuffer table = strings.toBuffer();
+
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] parts = {header, records, table};
+            // A gathering write may stop short; the table alone can be empty
+            while (header.hasRemaining() || records.hasRemaining() || table.hasRemaining()) {
+                out.write(parts);
+            }
+            out.force(true);
+        }
+    }
+
+    // Deduplicating string table used by the writer
+    private static class StringTable {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final List<byte[]> entries = new ArrayList<>();
+        private int size;
+
+        int add(String value) {
+            String text = value != null ? value : "";
+            Integer offset = offsets.get(text);
+            if (offset == null) {
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                offset = size;
+                offsets.put(text, offset);
+                entries.add(bytes);
+                size += 4 + bytes.length;
+            }
+            return offset;
+        }
+
+        ByteBuffer toBuffer() {
+            ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+            for (byte[] bytes : entries) {
+                buffer.putInt(bytes.length).put(bytes);
+            }
+            return buffer.flip();
+        }
+    }
+}
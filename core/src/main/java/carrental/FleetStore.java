@@ -0,0 +1,25 @@
+package carrental;
+
+import java.util.List;
+
+// FleetStore interface for a secondary fleet representation that RentalAgency
+// keeps in step with its vehicles and uses to answer searches
+public interface FleetStore {
+    // Called when a vehicle joins or leaves the fleet
+    void add(Vehicle vehicle);
+    void remove(Vehicle vehicle);
+
+    // Called when a vehicle is rented or returned. This is on the booking path, so a
+    // store should not make it wait for searches; by default it is any other change.
+    default void updateAvailability(Vehicle vehicle) {
+        update(vehicle);
+    }
+
+    // Called when a vehicle's mileage or price changes
+    void update(Vehicle vehicle);
+
+    int size();
+
+    // Method to find every vehicle matching the query
+    List<Vehicle> search(VehicleQuery query);
+}
@@ -0,0 +1,60 @@
+package carrental;
+
+import java.util.BitSet;
+
+// FleetStores class holding the slot bookkeeping shared by ColumnarFleetStore and
+// BitmapFleetIndex: the availability bit of a slot and the criteria both answer
+// from their per-slot bitsets (availability, vehicle type, air conditioning)
+final class FleetStores {
+    private FleetStores() {
+    }
+
+    // Car-only and motorcycle-only criteria narrow the type
+    static boolean carsOnly(VehicleQuery query) {
+        return query.hasCarCriteria() || query.getType() == VehicleType.CAR;
+    }
+
+    static boolean motorcyclesOnly(VehicleQuery query) {
+        return query.hasMotorcycleCriteria() || query.getType() == VehicleType.MOTORCYCLE;
+    }
+
+    // Method to find the slots passing the availability, type and air conditioning
+    // criteria; null when the query asks for car-only and motorcycle-only attributes at once
+    static BitSet candidates(VehicleQuery query, BitSet occupied, AtomicBitmap available,
+                             BitSet cars, BitSet airConditioned) {
+        boolean carsOnly = carsOnly(query);
+        boolean motorcyclesOnly = motorcyclesOnly(query);
+        if (carsOnly && motorcyclesOnly) {
+            return null;
+        }
+        BitSet candidates = query.isAvailableOnly() ? available.toBitSet() : (BitSet) occupied.clone();
+        if (carsOnly) {
+            candidates.and(cars);
+        } else if (motorcyclesOnly) {
+            candidates.andNot(cars);
+        }
+        Boolean airConditioning = query.getAirConditioning();
+        if (airConditioning != null) {
+            if (airConditioning) {
+                candidates.and(airConditioned);
+            } else {
+                candidates.andNot(airConditioned);
+            }
+        }
+        return candidates;
+    }
+
+    // Method to copy a vehicle's availability into its slot. Two changes can race,
+    // so whoever writes last re-reads the vehicle until the bit matches it.
+    static void trackAvailability(AtomicBitmap available, int slot, Vehicle vehicle) {
+        boolean value = vehicle.isAvailable();
+        while (true) {
+            available.set(slot, value);
+            boolean current = vehicle.isAvailable();
+            if (current == value) {
+                return;
+            }
+            value = current;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package carrental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+// HoldReaper class expiring rental holds with a hashed timing wheel. Time is cut
+// into ticks and each hold goes into the wheel slot of the tick its TTL runs out
+// in. Every tick the reaper empties one slot and expires the holds in it that are
+// due, so the work per tick is proportional to the holds ending then, never to the
+// fleet or to every open hold. A hold more than one turn of the wheel away waits
+// in its slot for the extra turns. Holds confirmed or released early stay in the
+// wheel and are dropped when their slot comes round, as OverdueTracker does.
+// The reaper thread starts with the first hold, is a daemon and stops on close().
+class HoldReaper {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int SLOTS = 2048; // About 3.4 minutes per turn
+
+    private final Predicate<RentalHold> expire;
+    private final long origin;
+    private final Slot[] slots;
+    private final Object expiryLock; // Serialises expireDue; never held by schedule()
+    private final AtomicBoolean started;
+    private final LongAdder failedExpiries;
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile long processedTick; // Last tick whose slot was emptied; written under that slot's lock
+
+    // Constructor
+    HoldReaper(Predicate<RentalHold> expire) {
+        this.expire = expire;
+        this.origin = System.nanoTime();
+        this.slots = new Slot[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new Slot();
+        }
+        this.expiryLock = new Object();
+        this.started = new AtomicBoolean();
+        this.failedExpiries = new LongAdder();
+        this.running = true;
+        this.processedTick = -1;
+    }
+
+    long getFailedExpiryCount() { return failedExpiries.sum(); }
+
+    // One wheel slot; its own monitor guards the list
+    private static final class Slot {
+        final List<RentalHold> holds = new ArrayList<>();
+    }
+
+    // Method to queue a hold for expiry at its deadline
+    void schedule(RentalHold hold) {
+        long due = Math.max(0, ceilDiv(hold.getExpiresAt() - origin, TICK_NANOS));
+        while (true) {
+            // A slot already emptied for this tick would only be seen a turn later
+            long tick = Math.max(due, processedTick + 1);
+            Slot slot = slots[(int) (tick % SLOTS)];
+            synchronized (slot) {
+                if (processedTick < tick) {
+                    slot.holds.add(hold);
+                    break;
+                }
+            }
+        }
+        if (!started.get() && running && started.compareAndSet(false, true)) {
+            Thread reaper = new Thread(this::run, "rental-hold-reaper");
+            reaper.setDaemon(true);
+            thread = reaper;
+            reaper.start();
+        }
+    }
+
+    // Method to stop the reaper thread; holds still open after this no longer expire on their own
+    void close() {
+        running = false;
+        Thread reaper = thread;
+        if (reaper != null) {
+            LockSupport.unpark(reaper);
+        }
+    }
+
+    // Method to expire every hold due by the given System.nanoTime(); returns how many expired
+    int expireDue(long now) {
+        List<RentalHold> due = collectDue(now);
+        // Expire outside every reaper lock; expiry takes vehicle and ledger locks
+        int expired = 0;
+        for (RentalHold hold : due) {
+            try {
+                if (expire.test(hold)) {
+                    expired++;
+                }
+            } catch (RuntimeException e) {
+                // One failed expiry must not leave the other due holds claimed; the
+                // failed hold stays open and is counted so it can be looked into
+                failedExpiries.increment();
+            }
+        }
+        return expired;
+    }
+
+    // Method to empty the slots up to now, returning the holds that are due
+    private List<RentalHold> collectDue(long now) {
+        synchronized (expiryLock) {
+            long target = Math.floorDiv(now - origin, TICK_NANOS);
+            List<RentalHold> due = new ArrayList<>();
+            // After a long pause one turn visits every slot, and due holds are found by time
+            for (long tick = Math.max(processedTick + 1, target - SLOTS + 1); tick <= target; tick++) {
+                Slot slot = slots[(int) (tick % SLOTS)];
+                synchronized (slot) {
+                    processedTick = tick;
+                    List<RentalHold> holds = slot.holds;
+                    int kept = 0;
+                    for (int i = 0; i < holds.size(); i++) {
+                        RentalHold hold = holds.get(i);
+                        if (!hold.isHeld()) {
+                            continue;
+                        }
+                        if (hold.isDue(now)) {
+                            due.add(hold);
+                        } else {
+                            holds.set(kept++, hold);
+                        }
+                    }
+                    holds.subList(kept, holds.size()).clear();
+                }
+            }
+            return due;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long now = System.nanoTime();
+            expireDue(now);
+            long nextTick = origin + (Math.floorDiv(now - origin, TICK_NANOS) + 1) * TICK_NANOS;
+            LockSupport.parkNanos(nextTick - System.nanoTime());
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
@@ -0,0 +1,18 @@
+package carrental;
+
+// HoldResult class reporting whether a vehicle hold was placed, and why not if it wasn't
+public class HoldResult {
+    private final BookingStatus status;
+    private final RentalHold hold; // Only set when the hold was placed
+
+    // Constructor
+    public HoldResult(BookingStatus status, RentalHold hold) {
+        this.status = status;
+        this.hold = hold;
+    }
+
+    // Getter methods
+    public BookingStatus getStatus() { return status; }
+    public RentalHold getHold() { return hold; }
+    public boolean isAccepted() { return status.isAccepted(); }
+}
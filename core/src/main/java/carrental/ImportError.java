@@ -0,0 +1,22 @@
+package carrental;
+
+// ImportError class describing one CSV row the importer could not load
+public class ImportError {
+    private final long lineNumber;
+    private final String message;
+
+    // Constructor
+    public ImportError(long lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    // Getter methods
+    public long getLineNumber() { return lineNumber; }
+    public String getMessage() { return message; }
+
+    @Override
+    public String toString() {
+        return "line " + lineNumber + ": " + message;
+    }
+}
@@ -0,0 +1,37 @@
+package carrental;
+
+import java.util.Collections;
+import java.util.List;
+
+// ImportReport class summarizing one bulk import: rows read, records added,
+// the rows that were rejected and why, and how fast the file was processed
+public class ImportReport {
+    private final long rowsRead;
+    private final long imported;
+    private final List<ImportError> errors;
+    private final long elapsedNanos;
+
+    // Constructor
+    public ImportReport(long rowsRead, long imported, List<ImportError> errors, long elapsedNanos) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.errors = Collections.unmodifiableList(errors);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Getter methods
+    public long getRowsRead() { return rowsRead; }
+    public long getImported() { return imported; }
+    public List<ImportError> getErrors() { return errors; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos > 0 ? rowsRead * 1e9 / elapsedNanos : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d row(s) read, %d imported, %d rejected in %.1f ms (%.0f rows/s)",
+                rowsRead, imported, errors.size(), elapsedNanos / 1e6, getRowsPerSecond());
+    }
+}
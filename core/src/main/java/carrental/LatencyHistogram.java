@@ -0,0 +1,129 @@
+package carrental;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// LatencyHistogram class counting recorded durations in log-linear buckets, the
+// layout HdrHistogram uses: values below 32 get a bucket each, and every power of
+// two above that is split into 16 equal buckets, so a reported percentile is within
+// about 6% of the true value. Values from 0 to 2^40 ns (about 18 minutes) are
+// covered in 592 buckets; longer ones count in the last bucket.
+// Recording is an increment of one array slot and never allocates. Threads are
+// spread over a few copies of the bucket array so they rarely update the same one;
+// reads add the copies up. A reset racing with recording may keep a few values.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS / 2;
+    private static final long MAX_VALUE = (1L << 40) - 1;
+    static final int BUCKETS = bucketOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final LongAdder total;
+    private final AtomicLong max;
+
+    // Constructor
+    public LatencyHistogram() {
+        int stripes = Integer.highestOneBit(Math.min(8, Runtime.getRuntime().availableProcessors()));
+        this.stripes = new AtomicLongArray[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+        this.stripeMask = stripes - 1;
+        this.total = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    // Method to record one duration in nanoseconds
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+        stripes[(int) Thread.currentThread().getId() & stripeMask].incrementAndGet(bucketOf(value));
+        total.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    // Method to get the number of recorded values
+    public long getCount() {
+        long count = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                count += stripe.get(i);
+            }
+        }
+        return count;
+    }
+
+    public long getMax() { return max.get(); }
+
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) total.sum() / count;
+    }
+
+    // Method to get the value below which the given percentile (0-100) of recorded
+    // values fall, reported as the top of its bucket and never above the maximum
+    public long getValueAtPercentile(double percentile) {
+        long[] counts = counts();
+        long count = 0;
+        for (long bucket : counts) {
+            count += bucket;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    // Method to clear every recorded value
+    public void reset() {
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                stripe.set(i, 0);
+            }
+        }
+        total.reset();
+        max.set(0);
+    }
+
+    private long[] counts() {
+        long[] counts = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        return counts;
+    }
+
+    // Values below SUB_BUCKETS map to themselves; above that, a value whose top bit
+    // is at position p keeps its top SUB_BUCKET_BITS - 1 bits below p as the sub-bucket
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF + (int) (value >>> shift);
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / HALF - 1;
+        long subBucket = bucket % HALF + HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,29 @@
+package carrental;
+
+// LedgerEntry class: one immutable transaction in a customer's ledger
+public class LedgerEntry {
+    private final LedgerEntryType type;
+    private final long amountCents;
+    private final String reference; // Rental ID, or null
+    private final long timestamp;
+
+    // Constructor
+    public LedgerEntry(LedgerEntryType type, long amountCents, String reference, long timestamp) {
+        this.type = type;
+        this.amountCents = amountCents;
+        this.reference = reference;
+        this.timestamp = timestamp;
+    }
+
+    // Getter methods
+    public LedgerEntryType getType() { return type; }
+    public long getAmountCents() { return amountCents; }
+    public double getAmount() { return CustomerLedger.toDollars(amountCents); }
+    public String getReference() { return reference; }
+    public long getTimestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return type + " $" + String.format("%.2f", getAmount()) + (reference != null ? " (" + reference + ")" : "");
+    }
+}
@@ -0,0 +1,10 @@
+package carrental;
+
+// LedgerEntryType enum listing the kinds of customer ledger transactions
+public enum LedgerEntryType {
+    HOLD,          // Credit reserved for a booking
+    HOLD_RELEASED, // Reservation dropped or converted into a charge
+    CHARGE,
+    PAYMENT,
+    MERGED         // Balance and holds taken over from another branch's copy
+}
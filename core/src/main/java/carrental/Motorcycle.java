@@ -1,7 +1,11 @@
+package carrental;
+
 // Motorcycle class demonstrating Inheritance
 public class Motorcycle extends Vehicle {
+    private static final int SPORT = SYMBOLS.intern("Sport");
+
     private int engineSize; // in CC
-    private String motorcycleType;
+    private int motorcycleType; // Code in SYMBOLS
     private boolean hasSidecar;
     private boolean requiresSpecialLicense;
 
@@ -11,14 +15,15 @@ public class Motorcycle extends Vehicle {
                       String motorcycleType, boolean hasSidecar, boolean requiresSpecialLicense) {
         super(vehicleId, brand, model, year, color, mileage, basePricePerDay);
         this.engineSize = engineSize;
-        this.motorcycleType = motorcycleType;
+        this.motorcycleType = SYMBOLS.intern(motorcycleType);
         this.hasSidecar = hasSidecar;
         this.requiresSpecialLicense = requiresSpecialLicense;
+        reprice();
     }
 
     // Getter methods
     public int getEngineSize() { return engineSize; }
-    public String getMotorcycleType() { return motorcycleType; }
+    public String getMotorcycleType() { return SYMBOLS.value(motorcycleType); }
     public boolean hasSidecar() { return hasSidecar; }
     public boolean requiresSpecialLicense() { return requiresSpecialLicense; }
 
@@ -33,7 +38,7 @@ public class Motorcycle extends Vehicle {
         System.out.println("Color: " + getColor());
         System.out.println("Mileage: " + getMileage() + " miles");
         System.out.println("Engine Size: " + engineSize + " CC");
-        System.out.println("Type: " + motorcycleType);
+        System.out.println("Type: " + getMotorcycleType());
         System.out.println("Sidecar: " + (hasSidecar ? "Yes" : "No"));
         System.out.println("Special License Required: " + (requiresSpecialLicense ? "Yes" : "No"));
         System.out.println("Base Price/Day: $" + String.format("%.2f", getBasePricePerDay()));
@@ -43,34 +48,30 @@ public class Motorcycle extends Vehicle {
 
     @Override
     public double calculateRentalPrice(int days) {
-        double price = getBasePricePerDay() * days;
-
-        // Add premium for larger engines
-        if (engineSize > 600) {
-            price += 10.0 * days; // $10 extra per day for powerful bikes
-        }
-
-        // Add premium for sport bikes
-        if (motorcycleType.equalsIgnoreCase("Sport")) {
-            price += 15.0 * days; // $15 extra per day for sport bikes
-        }
-
-        // Add premium for sidecar
-        if (hasSidecar) {
-            price += 8.0 * days; // $8 extra per day for sidecar
-        }
+        long start = RentalMetrics.start();
+        double price = getRateCard().quote(days);
+        RentalMetrics.completed(RentalOperation.CALCULATE_PRICE, start);
+        return price;
+    }
 
-        // Discount for longer rentals
-        if (days >= 5) {
-            price *= 0.85; // 15% discount for 5+ day rentals
-        }
+    @Override
+    protected RateCard buildRateCard() {
+        double largeEngine = engineSize > 600 ? 10.0 : 0.0; // $10 extra per day for powerful bikes
+        double sport = SYMBOLS.equalsIgnoreCase(motorcycleType, SPORT) ? 15.0 : 0.0; // $15 extra per day for sport bikes
+        double sidecar = hasSidecar ? 8.0 : 0.0; // $8 extra per day for sidecar
 
-        return price;
+        // Discount for longer rentals: 15% off 5+ day rentals
+        return new RateCard(getBasePricePerDay(), largeEngine, sport, sidecar, 5, 0.85);
     }
 
     @Override
     public String getVehicleType() {
-        return "Motorcycle";
+        return getType().getDisplayName();
+    }
+
+    @Override
+    public VehicleType getType() {
+        return VehicleType.MOTORCYCLE;
     }
 
     // Motorcycle-specific method
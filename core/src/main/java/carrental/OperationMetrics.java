@@ -0,0 +1,95 @@
+package carrental;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// OperationMetrics class holding one operation's latency histogram and a counter
+// per failure reason. Every call is timed, failed ones included. A reason's
+// counter is created the first time it is seen; after that counting a failure
+// is a map lookup and an add.
+public class OperationMetrics implements OperationMetricsMXBean {
+    private final RentalOperation operation;
+    private final LatencyHistogram latencies;
+    private final Map<String, LongAdder> errors;
+    private volatile long resetAt; // System.nanoTime() of the last reset
+
+    // Constructor
+    OperationMetrics(RentalOperation operation) {
+        this.operation = operation;
+        this.latencies = new LatencyHistogram();
+        this.errors = new ConcurrentHashMap<>();
+        this.resetAt = System.nanoTime();
+    }
+
+    // Getter methods
+    @Override
+    public String getOperation() { return operation.getMethodName(); }
+    public LatencyHistogram getLatencies() { return latencies; }
+    @Override
+    public long getCount() { return latencies.getCount(); }
+    @Override
+    public double getMeanNanos() { return latencies.getMean(); }
+    @Override
+    public long getP50Nanos() { return latencies.getValueAtPercentile(50.0); }
+    @Override
+    public long getP90Nanos() { return latencies.getValueAtPercentile(90.0); }
+    @Override
+    public long getP99Nanos() { return latencies.getValueAtPercentile(99.0); }
+    @Override
+    public long getP999Nanos() { return latencies.getValueAtPercentile(99.9); }
+    @Override
+    public long getMaxNanos() { return latencies.getMax(); }
+
+    @Override
+    public long getErrorCount() {
+        long count = 0;
+        for (LongAdder counter : errors.values()) {
+            count += counter.sum();
+        }
+        return count;
+    }
+
+    // Calls per second since the metrics were created or last reset
+    @Override
+    public double getThroughputPerSecond() {
+        long elapsed = System.nanoTime() - resetAt;
+        return elapsed <= 0 ? 0.0 : getCount() * 1e9 / elapsed;
+    }
+
+    // Failure counts by reason, sorted by reason
+    @Override
+    public Map<String, Long> getErrors() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : errors.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count > 0) {
+                counts.put(entry.getKey(), count);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        latencies.reset();
+        for (LongAdder counter : errors.values()) {
+            counter.reset();
+        }
+        resetAt = System.nanoTime();
+    }
+
+    void record(long nanos) {
+        latencies.record(nanos);
+    }
+
+    void recordError(String reason, long nanos) {
+        latencies.record(nanos);
+        LongAdder counter = errors.get(reason);
+        if (counter == null) {
+            counter = errors.computeIfAbsent(reason, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+}
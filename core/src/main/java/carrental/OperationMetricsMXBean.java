@@ -0,0 +1,20 @@
+package carrental;
+
+import java.util.Map;
+
+// OperationMetricsMXBean interface: one operation's metrics as seen over JMX.
+// Times are in nanoseconds.
+public interface OperationMetricsMXBean {
+    String getOperation();
+    long getCount();
+    long getErrorCount();
+    double getThroughputPerSecond();
+    double getMeanNanos();
+    long getP50Nanos();
+    long getP90Nanos();
+    long getP99Nanos();
+    long getP999Nanos();
+    long getMaxNanos();
+    Map<String, Long> getErrors();
+    void reset();
+}
@@ -0,0 +1,126 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// OverdueTracker class keeping active rentals in a queue ordered by end date.
+// A sweep only looks at rentals whose end date has passed, so finding k newly
+// overdue rentals costs O(k log n) instead of a scan of every rental.
+// Queue entries are not updated in place: an entry for a rental that has since
+// been extended is re-queued under its new end date when it reaches the front,
+// and an entry for a completed rental is simply dropped. Rentals returned well
+// before their end date would otherwise stay queued (and reachable) until then,
+// so once completions reach half the queue it is compacted in one pass.
+//
+// Rentals call back into the tracker while holding their own lock, and a sweep
+// locks each rental it marks, so those callbacks never take the tracker's lock.
+public class OverdueTracker {
+    private final PriorityQueue<Deadline> deadlines;
+    private final Set<Rental> overdue;
+    private final Queue<Rental> requeued; // Overdue rentals extended since the last sweep
+    private final AtomicInteger completedSinceCompaction;
+
+    // Constructor
+    public OverdueTracker() {
+        this.deadlines = new PriorityQueue<>();
+        this.overdue = ConcurrentHashMap.newKeySet();
+        this.requeued = new ConcurrentLinkedQueue<>();
+        this.completedSinceCompaction = new AtomicInteger();
+    }
+
+    // Method to start tracking an active rental
+    public synchronized void track(Rental rental) {
+        compactIfStale();
+        deadlines.add(new Deadline(rental.getEndDate(), rental));
+    }
+
+    public synchronized void trackAll(List<Rental> rentals) {
+        compactIfStale();
+        for (Rental rental : rentals) {
+            deadlines.add(new Deadline(rental.getEndDate(), rental));
+        }
+    }
+
+    // Method to mark every rental that ended before today as overdue; returns the newly overdue rentals
+    public synchronized List<Rental> sweep(LocalDate today) {
+        compactIfStale();
+        Rental extended;
+        while ((extended = requeued.poll()) != null) {
+            deadlines.add(new Deadline(extended.getEndDate(), extended));
+        }
+
+        List<Rental> newlyOverdue = new ArrayList<>();
+        Deadline next;
+        while ((next = deadlines.peek()) != null && today.isAfter(next.endDate)) {
+            deadlines.poll();
+            Rental rental = next.rental;
+            boolean marked;
+            synchronized (rental) {
+                // Held so an extension cannot slip between marking and recording
+                marked = rental.markOverdue(today);
+                if (marked) {
+                    overdue.add(rental);
+                }
+            }
+            if (marked) {
+                newlyOverdue.add(rental);
+                RentalEvents.emit(RentalEventType.RENTAL_OVERDUE, rental);
+            } else if (!rental.isCompleted()) {
+                // Extended since it was queued; wait for the new end date
+                deadlines.add(new Deadline(rental.getEndDate(), rental));
+            }
+        }
+        return newlyOverdue;
+    }
+
+    // Method to list rentals marked overdue by earlier sweeps and not yet returned
+    public List<Rental> getOverdueRentals() {
+        return new ArrayList<>(overdue);
+    }
+
+    public int getOverdueCount() { return overdue.size(); }
+
+    // Method to stop reporting a returned rental
+    public void completed(Rental rental) {
+        overdue.remove(rental);
+        completedSinceCompaction.incrementAndGet();
+    }
+
+    // Method to put an overdue rental that was extended back in the queue at the next sweep
+    public void extended(Rental rental) {
+        if (overdue.remove(rental)) {
+            requeued.add(rental);
+        }
+    }
+
+    // Drops completed rentals' entries once they could make up half the queue,
+    // so the cost stays O(1) amortized per completion
+    private void compactIfStale() {
+        if (completedSinceCompaction.get() > deadlines.size() / 2 && !deadlines.isEmpty()) {
+            completedSinceCompaction.set(0);
+            deadlines.removeIf(deadline -> deadline.rental.isCompleted());
+        }
+    }
+
+    private static final class Deadline implements Comparable<Deadline> {
+        private final LocalDate endDate;
+        private final Rental rental;
+
+        Deadline(LocalDate endDate, Rental rental) {
+            this.endDate = endDate;
+            this.rental = rental;
+        }
+
+        @Override
+        public int compareTo(Deadline other) {
+            return endDate.compareTo(other.endDate);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package carrental;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// QuoteCache class: a bounded, least-recently-used cache of rental quotes keyed
+// by vehicle and number of days. Each entry remembers the rate card it was priced
+// from; repricing a vehicle gives it a new rate card, so older entries stop
+// matching and are recomputed on their next lookup. The cache is split into
+// independently locked segments so concurrent lookups rarely contend.
+public class QuoteCache {
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    // Constructor
+    public QuoteCache(int capacity) {
+        if (capacity < SEGMENTS) {
+            throw new IllegalArgumentException("Quote cache capacity must be at least " + SEGMENTS);
+        }
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment((capacity + SEGMENTS - 1) / SEGMENTS);
+        }
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    // Getter methods for the cache counters
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    // Method to price a rental, from the cache when the vehicle has not been repriced
+    public double quote(Vehicle vehicle, int days) {
+        RateCard card = vehicle.getRateCard();
+        Key key = new Key(vehicle, days);
+        Segment segment = segments[(key.hashCode() & 0x7fffffff) % SEGMENTS];
+        synchronized (segment) {
+            Quote cached = segment.get(key);
+            if (cached != null && cached.card == card) {
+                hits.increment();
+                return cached.price;
+            }
+        }
+        misses.increment();
+        double price = card.quote(days);
+        synchronized (segment) {
+            segment.put(key, new Quote(card, price));
+        }
+        return price;
+    }
+
+    // Method to drop every cached quote (counters are kept)
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    // Vehicles compare by identity, so a re-added vehicle never sees old quotes
+    private static final class Key {
+        private final Vehicle vehicle;
+        private final int days;
+
+        Key(Vehicle vehicle, int days) {
+            this.vehicle = vehicle;
+            this.days = days;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return vehicle == key.vehicle && days == key.days;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(vehicle) * 31 + days;
+        }
+    }
+
+    private static final class Quote {
+        private final RateCard card;
+        private final double price;
+
+        Quote(RateCard card, double price) {
+            this.card = card;
+            this.price = price;
+        }
+    }
+
+    // Access-ordered map that drops its least recently used entry when full
+    @SuppressWarnings("serial") // Never serialized
+    private final class Segment extends LinkedHashMap<Key, Quote> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Quote> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
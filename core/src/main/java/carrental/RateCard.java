@@ -0,0 +1,46 @@
+package carrental;
+
+// RateCard class: a vehicle's pricing rules resolved to plain numbers.
+// Built when a vehicle is created or repriced so quoting never re-checks
+// vehicle attributes. Surcharges that do not apply are stored as 0.0; adding
+// 0.0 leaves the running price unchanged, so quotes match the rule-by-rule
+// calculation exactly, including floating-point rounding.
+public final class RateCard {
+    private final double baseRate;
+    private final double firstSurcharge;
+    private final double secondSurcharge;
+    private final double thirdSurcharge;
+    private final int discountMinDays;
+    private final double discountFactor;
+
+    // Surcharges are per day and applied in the order given
+    public RateCard(double baseRate, double firstSurcharge, double secondSurcharge, double thirdSurcharge,
+                    int discountMinDays, double discountFactor) {
+        this.baseRate = baseRate;
+        this.firstSurcharge = firstSurcharge;
+        this.secondSurcharge = secondSurcharge;
+        this.thirdSurcharge = thirdSurcharge;
+        this.discountMinDays = discountMinDays;
+        this.discountFactor = discountFactor;
+    }
+
+    // Getter methods
+    public double getBaseRate() { return baseRate; }
+    public double getFirstSurcharge() { return firstSurcharge; }
+    public double getSecondSurcharge() { return secondSurcharge; }
+    public double getThirdSurcharge() { return thirdSurcharge; }
+    public int getDiscountMinDays() { return discountMinDays; }
+    public double getDiscountFactor() { return discountFactor; }
+
+    // Method to price a rental of the given length
+    public double quote(int days) {
+        double price = baseRate * days;
+        price += firstSurcharge * days;
+        price += secondSurcharge * days;
+        price += thirdSurcharge * days;
+        if (days >= discountMinDays) {
+            price *= discountFactor;
+        }
+        return price;
+    }
+}
@@ -0,0 +1,250 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// Rental class demonstrating Composition and Association
+public class Rental {
+    // Private fields (Encapsulation)
+    private String rentalId;
+    private Customer customer; // Association - Rental is associated with Customer
+    private Vehicle vehicle;   // Association - Rental is associated with Vehicle
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate actualReturnDate;
+    private double totalCost;
+    private boolean isCompleted;
+    private String status; // "Active", "Completed", "Overdue"
+    private RentalAgency agency; // Agency that booked this rental, if any
+    private long historySequence; // Position in the agency's rental history, used by paging cursors
+    private boolean vehicleTaken; // Whether this rental has taken the vehicle off the lot
+
+    // Constructor
+    public Rental(String rentalId, Customer customer, Vehicle vehicle,
+                  LocalDate startDate, LocalDate endDate) {
+        this.rentalId = rentalId;
+        this.customer = customer;
+        this.vehicle = vehicle;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.actualReturnDate = null;
+        this.isCompleted = false;
+        this.status = "Active";
+
+        this.vehicleTaken = true; // A rental made outside an agency has the vehicle from the start
+
+        // Calculate total cost
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate);
+        if (days <= 0) days = 1; // Minimum 1 day rental
+        this.totalCost = vehicle.calculateRentalPrice(days);
+    }
+
+    // Constructor for a rental whose cost is already known (booking, journal replay)
+    Rental(String rentalId, Customer customer, Vehicle vehicle,
+           LocalDate startDate, LocalDate endDate, double totalCost) {
+        this.rentalId = rentalId;
+        this.customer = customer;
+        this.vehicle = vehicle;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.actualReturnDate = null;
+        this.isCompleted = false;
+        this.status = "Active";
+        this.totalCost = totalCost;
+    }
+
+    // Constructor for a completed rental read back from the archive
+    Rental(String rentalId, Customer customer, Vehicle vehicle, LocalDate startDate, LocalDate endDate,
+           LocalDate actualReturnDate, double totalCost) {
+        this.rentalId = rentalId;
+        this.customer = customer;
+        this.vehicle = vehicle;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.actualReturnDate = actualReturnDate;
+        this.isCompleted = true;
+        this.status = "Completed";
+        this.totalCost = totalCost;
+    }
+
+    // Getter methods (Encapsulation)
+    public String getRentalId() { return rentalId; }
+    public Customer getCustomer() { return customer; }
+    public Vehicle getVehicle() { return vehicle; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public LocalDate getActualReturnDate() { return actualReturnDate; }
+    public double getTotalCost() { return totalCost; }
+    public boolean isCompleted() { return isCompleted; }
+    public String getStatus() { return status; }
+
+    void setAgency(RentalAgency agency) { this.agency = agency; }
+    synchronized void setCustomer(Customer customer) { this.customer = customer; }
+    long getHistorySequence() { return historySequence; }
+    void setHistorySequence(long historySequence) { this.historySequence = historySequence; }
+    synchronized boolean isVehicleTaken() { return vehicleTaken; }
+
+    // Marks the vehicle as taken by this rental (the agency rented it out at booking)
+    synchronized void markVehicleTaken() {
+        vehicleTaken = true;
+    }
+
+    // Takes the vehicle off the lot on or after the pickup day; false if the rental has
+    // ended, is already under way, or the vehicle has not come back from its last rental
+    synchronized boolean pickUp(LocalDate today) {
+        if (isCompleted || vehicleTaken || today.isBefore(startDate) || !vehicle.rentVehicle()) {
+            return false;
+        }
+        vehicleTaken = true;
+        return true;
+    }
+
+    // Method to complete the rental; false if it was already completed
+    public boolean completeRental() {
+        return completeRental(LocalDate.now());
+    }
+
+    // Completes the rental as of a given return date (also used by journal replay)
+    synchronized boolean completeRental(LocalDate returnDate) {
+        if (!isCompleted) {
+            if (agency != null) {
+                agency.rentalCompleting(this, returnDate);
+            }
+            actualReturnDate = returnDate;
+            isCompleted = true;
+            status = "Completed";
+            // A future booking ended before pickup never had the vehicle
+            if (vehicleTaken) {
+                vehicle.returnVehicle();
+            }
+            vehicle.getReservationCalendar().release(rentalId, startDate);
+
+            // Calculate late fees if applicable
+            if (actualReturnDate.isAfter(endDate)) {
+                int lateDays = (int) ChronoUnit.DAYS.between(endDate, actualReturnDate);
+                double lateFee = lateDays * 25.0; // $25 per day late fee
+                totalCost += lateFee;
+                customer.applyCharge(lateFee);
+                RentalEvents.emit(RentalEventType.LATE_FEE_APPLIED, this, lateFee, lateDays);
+            }
+
+            // Charge customer, converting the credit held since booking
+            customer.applyCharge(rentalId, totalCost);
+            if (agency != null) {
+                agency.rentalCompleted(this);
+            }
+            RentalEvents.emit(RentalEventType.RENTAL_COMPLETED, this);
+            return true;
+        }
+        RentalEvents.emit(RentalEventType.RENTAL_ALREADY_COMPLETED, this);
+        return false;
+    }
+
+    // Method to check if rental is overdue
+    public boolean isOverdue() {
+        return markOverdue(LocalDate.now());
+    }
+
+    // Marks the rental overdue if it is still out after its end date (used by the overdue sweep)
+    synchronized boolean markOverdue(LocalDate today) {
+        if (!isCompleted && today.isAfter(endDate)) {
+            status = "Overdue";
+            return true;
+        }
+        return false;
+    }
+
+    // Method to extend rental
+    public synchronized void extendRental(LocalDate newEndDate) {
+        if (!isCompleted && newEndDate.isAfter(endDate)) {
+            if (!vehicle.getReservationCalendar().extend(rentalId, startDate, endDate, newEndDate)) {
+                RentalEvents.emit(RentalEventType.EXTENSION_REJECTED, this);
+                return;
+            }
+            int additionalDays = (int) ChronoUnit.DAYS.between(endDate, newEndDate);
+            double additionalCost = vehicle.calculateRentalPrice(additionalDays);
+            if (agency != null) {
+                try {
+                    agency.rentalExtending(this, newEndDate, additionalCost);
+                } catch (RuntimeException e) {
+                    vehicle.getReservationCalendar().shorten(rentalId, startDate, endDate);
+                    throw e;
+                }
+            }
+
+            endDate = newEndDate;
+            totalCost += additionalCost;
+            customer.holdCredit(rentalId, additionalCost);
+            if (status.equals("Overdue") && !LocalDate.now().isAfter(endDate)) {
+                status = "Active";
+            }
+            if (agency != null) {
+                agency.rentalExtended(this);
+            }
+
+            RentalEvents.emit(RentalEventType.RENTAL_EXTENDED, this, additionalCost, additionalDays);
+        } else {
+            RentalEvents.emit(RentalEventType.EXTENSION_REJECTED, null);
+        }
+    }
+
+    // Re-applies a journaled extension without repricing it
+    synchronized void restoreExtension(LocalDate newEndDate, double additionalCost) {
+        if (!isCompleted && newEndDate.isAfter(endDate)) {
+            vehicle.getReservationCalendar().extend(rentalId, startDate, endDate, newEndDate);
+            endDate = newEndDate;
+            totalCost += additionalCost;
+            customer.holdCredit(rentalId, additionalCost);
+            if (status.equals("Overdue") && !LocalDate.now().isAfter(endDate)) {
+                status = "Active";
+            }
+            if (agency != null) {
+                agency.rentalExtended(this);
+            }
+        }
+    }
+
+    // Method to get rental duration
+    public int getRentalDuration() {
+        LocalDate endDateToUse = actualReturnDate != null ? actualReturnDate : endDate;
+        return (int) ChronoUnit.DAYS.between(startDate, endDateToUse);
+    }
+
+    // Method to display rental information
+    public void displayRentalInfo() {
+        System.out.println("=== RENTAL INFORMATION ===");
+        System.out.println("Rental ID: " + rentalId);
+        System.out.println("Customer: " + customer.getFullName());
+        System.out.println("Vehicle: " + vehicle.getVehicleSummary());
+        System.out.println("Start Date: " + startDate);
+        System.out.println("End Date: " + endDate);
+
+        if (actualReturnDate != null) {
+            System.out.println("Actual Return Date: " + actualReturnDate);
+        }
+
+        System.out.println("Total Cost: $" + String.format("%.2f", totalCost));
+        System.out.println("Status: " + status);
+        System.out.println("Duration: " + getRentalDuration() + " day(s)");
+
+        if (isOverdue()) {
+            int overdueDays = (int) ChronoUnit.DAYS.between(endDate, LocalDate.now());
+            System.out.println("⚠️  OVERDUE by " + overdueDays + " day(s)!");
+        }
+
+        System.out.println("=========================");
+    }
+
+    // Method to generate rental summary
+    public String getRentalSummary() {
+        return "Rental " + rentalId + ": " + customer.getFullName() +
+                " - " + vehicle.getVehicleSummary() + " (" + status + ")";
+    }
+
+    // Method to calculate daily rate
+    public double getDailyRate() {
+        int duration = (int) ChronoUnit.DAYS.between(startDate, endDate);
+        if (duration <= 0) duration = 1;
+        return totalCost / duration;
+    }
+}
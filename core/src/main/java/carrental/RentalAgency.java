@@ -0,0 +1,1371 @@
+package carrental;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+
+// RentalAgency class demonstrating Composition and system management.
+// Safe to share between threads: lists are synchronized, indexes are concurrent,
+// and bookings claim vehicles through each vehicle's own reservation calendar.
+public class RentalAgency implements AutoCloseable {
+    // Private fields (Encapsulation)
+    private String agencyName;
+    private String address;
+    private String phoneNumber;
+    private List<Vehicle> fleet;        // Composition - Agency has Vehicles
+    private List<Customer> customers;   // Composition - Agency has Customers
+    private List<Rental> rentals;       // Composition - Agency has Rentals
+    private AtomicInteger nextRentalId;
+    private long nextHistorySequence;   // Guarded by the rentals lock
+    private volatile String rentalIdPrefix = "R";
+
+    // Rental history is read in pages; each lock hold copies at most one chunk of it
+    private static final int DISPLAY_PAGE_SIZE = 100;
+    private static final int HISTORY_SCAN_CHUNK = 4096;
+
+    // ID indexes kept in sync with the lists above for constant-time lookups
+    private Map<String, Vehicle> vehicleIndex;
+    private Map<String, Customer> customerIndex;
+    private Map<String, Rental> rentalIndex;
+
+    // Live sets of available vehicles per type, updated as vehicles change state
+    private Map<VehicleType, Set<Vehicle>> availablePools;
+
+    // Running statistics, updated as vehicles and rentals change state
+    private AtomicInteger totalRentalCount;
+    private AtomicInteger activeRentalCount;
+    private DoubleAdder completedRevenue;
+
+    // Optional secondary representation of the fleet used for searches
+    private volatile FleetStore fleetStore;
+
+    // Active rentals ordered by end date for the overdue sweep
+    private OverdueTracker overdueTracker;
+
+    // Bookings made ahead of their start date, earliest start first; the sweep takes
+    // each vehicle off the lot on its pickup day. Guarded by its own lock.
+    private PriorityQueue<Rental> pendingPickups;
+
+    // Recently quoted prices for callers asking for quotes (the quote endpoint and menu).
+    // Bookings price straight from the rate card, which costs less than a cache hit.
+    private static final int QUOTE_CACHE_SIZE = 10_000;
+
+    // Failure reasons counted in the metrics that have no BookingStatus
+    private static final String RENTAL_NOT_FOUND = "RENTAL_NOT_FOUND";
+    private static final String ALREADY_RETURNED = "ALREADY_RETURNED";
+    private static final String JOURNAL_FAILURE = "JOURNAL_FAILURE";
+    private static final String HOLD_NOT_FOUND = "HOLD_NOT_FOUND";
+    private static final String HOLD_ENDED = "HOLD_ENDED";
+    private QuoteCache quoteCache;
+
+    // Pricing engine over the whole fleet for batch eligibility checks, built on
+    // first use; guarded by the fleet lock and dropped whenever the fleet or a price changes
+    private volatile FleetPricingEngine pricingEngine;
+
+    // Completed rentals, moved out of the history list and rental index as they
+    // complete; removed vehicles stay resolvable for the rentals archived against them
+    private volatile RentalArchive archive;
+    private Map<String, Vehicle> retiredVehicles;
+
+    // Checkout holds not yet confirmed, released or expired, and the wheel that expires them.
+    // Holds are not journaled: after a restart every unconfirmed hold is simply gone.
+    private static final Duration DEFAULT_HOLD_TTL = Duration.ofMinutes(10);
+    private Map<String, RentalHold> holds;
+    private HoldReaper holdReaper;
+    private volatile Duration holdTtl = DEFAULT_HOLD_TTL;
+
+    // Write-ahead journal of state changes; null when running purely in memory
+    private volatile RentalJournal journal;
+
+    // Snapshot that vehicles and customers are faulted in from on first lookup;
+    // the bitsets mark records already loaded so a removed record never returns
+    private volatile FleetSnapshot snapshot;
+    private BitSet snapshotVehiclesLoaded;
+    private BitSet snapshotCustomersLoaded;
+    private AtomicInteger pendingSnapshotVehicles;
+    private AtomicInteger pendingSnapshotCustomers;
+
+    // Constructor
+    public RentalAgency(String agencyName, String address, String phoneNumber) {
+        this.agencyName = agencyName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.fleet = Collections.synchronizedList(new ArrayList<>());
+        this.customers = Collections.synchronizedList(new ArrayList<>());
+        this.rentals = Collections.synchronizedList(new ArrayList<>());
+        this.nextRentalId = new AtomicInteger(1001);
+        this.vehicleIndex = new ConcurrentHashMap<>();
+        this.customerIndex = new ConcurrentHashMap<>();
+        this.rentalIndex = new ConcurrentHashMap<>();
+        this.availablePools = new EnumMap<>(VehicleType.class);
+        for (VehicleType type : VehicleType.values()) {
+            availablePools.put(type, ConcurrentHashMap.newKeySet());
+        }
+        this.totalRentalCount = new AtomicInteger();
+        this.activeRentalCount = new AtomicInteger();
+        this.completedRevenue = new DoubleAdder();
+        this.quoteCache = new QuoteCache(QUOTE_CACHE_SIZE);
+        this.overdueTracker = new OverdueTracker();
+        this.pendingPickups = new PriorityQueue<>(Comparator.comparing(Rental::getStartDate));
+        this.pendingSnapshotVehicles = new AtomicInteger();
+        this.pendingSnapshotCustomers = new AtomicInteger();
+        this.archive = RentalArchive.offHeap();
+        this.retiredVehicles = new ConcurrentHashMap<>();
+        this.holds = new ConcurrentHashMap<>();
+        this.holdReaper = new HoldReaper(this::expireHold);
+    }
+
+    // Getter methods (lists are synchronized; hold their lock while iterating)
+    public String getAgencyName() { return agencyName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public List<Vehicle> getFleet() { return fleet; }
+    public List<Customer> getCustomers() { return customers; }
+    public List<Rental> getRentals() { return rentals; } // Rentals not yet archived
+    public RentalArchive getArchive() { return archive; }
+    public RentalJournal getJournal() { return journal; }
+    public QuoteCache getQuoteCache() { return quoteCache; }
+    public String getRentalIdPrefix() { return rentalIdPrefix; }
+    public Duration getHoldTtl() { return holdTtl; }
+    public int getActiveHoldCount() { return holds.size(); }
+    public long getFailedHoldExpiryCount() { return holdReaper.getFailedExpiryCount(); }
+
+    // Method to change how long new holds last before they expire (default 10 minutes)
+    public void setHoldTtl(Duration holdTtl) {
+        if (holdTtl.isNegative() || holdTtl.isZero()) {
+            throw new IllegalArgumentException("Hold time must be positive");
+        }
+        this.holdTtl = holdTtl;
+    }
+
+    // Method to change the prefix of new rental IDs (default "R"), so that
+    // several agencies can issue IDs that never collide; set it before booking
+    public void setRentalIdPrefix(String rentalIdPrefix) {
+        this.rentalIdPrefix = rentalIdPrefix;
+    }
+
+    // Method to start journaling every later state change (pass null to stop)
+    public void attachJournal(RentalJournal journal) {
+        this.journal = journal;
+    }
+
+    // Method to keep completed rentals in the given archive (such as a file-backed
+    // one) instead of the default off-heap one. Attach before any rental completes.
+    public void attachArchive(RentalArchive archive) {
+        if (this.archive.size() > 0) {
+            throw new IllegalStateException("Rentals have already been archived");
+        }
+        this.archive = archive;
+    }
+
+    // Method to stop the hold reaper thread on shutdown. The journal and archive
+    // are attached by the caller and stay the caller's to close.
+    @Override
+    public void close() {
+        holdReaper.close();
+    }
+
+    // Method to answer searches from a fleet store (such as ColumnarFleetStore)
+    // instead of scanning the vehicle objects; pass null to go back to scanning.
+    // The store is filled with the current fleet and kept in step afterwards.
+    public void attachFleetStore(FleetStore store) {
+        if (store != null) {
+            synchronized (fleet) {
+                for (Vehicle vehicle : fleet) {
+                    store.add(vehicle);
+                }
+                this.fleetStore = store;
+            }
+        } else {
+            this.fleetStore = null;
+        }
+    }
+
+    public FleetStore getFleetStore() { return fleetStore; }
+
+    // Method to use a snapshot as this agency's base fleet and customer list.
+    // Nothing is decoded up front: lookups fault records in one at a time, and
+    // counts include records that have not been loaded yet. Fleet-wide lists
+    // (getFleet, getAvailableVehicles, ...) cover loaded records only until
+    // loadSnapshot() has run. Attach to a new agency, before it is used.
+    public void attachSnapshot(FleetSnapshot snapshot) {
+        this.snapshotVehiclesLoaded = new BitSet(snapshot.getVehicleCount());
+        this.snapshotCustomersLoaded = new BitSet(snapshot.getCustomerCount());
+        pendingSnapshotVehicles.set(snapshot.getVehicleCount());
+        pendingSnapshotCustomers.set(snapshot.getCustomerCount());
+        this.snapshot = snapshot;
+    }
+
+    // Method to load every snapshot record not yet faulted in; returns the number loaded
+    public int loadSnapshot() {
+        FleetSnapshot snapshot = this.snapshot;
+        if (snapshot == null) {
+            return 0;
+        }
+        int loaded = 0;
+        for (int i = 0; i < snapshot.getVehicleCount(); i++) {
+            if (loadSnapshotVehicle(snapshot, i)) {
+                loaded++;
+            }
+        }
+        for (int i = 0; i < snapshot.getCustomerCount(); i++) {
+            if (loadSnapshotCustomer(snapshot, i)) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    // Method to add vehicle to fleet
+    public void addVehicle(Vehicle vehicle) {
+        if (lookupVehicle(vehicle.getVehicleId()) != null
+                || vehicleIndex.putIfAbsent(vehicle.getVehicleId(), vehicle) != null) {
+            RentalEvents.emit(RentalEventType.VEHICLE_ALREADY_IN_FLEET, vehicle);
+            return;
+        }
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                journal.logVehicleAdded(vehicle);
+            } catch (RuntimeException e) {
+                vehicleIndex.remove(vehicle.getVehicleId(), vehicle);
+                throw e;
+            }
+        }
+        insertVehicle(vehicle);
+        RentalEvents.emit(RentalEventType.VEHICLE_ADDED, vehicle);
+    }
+
+    // Method to add many vehicles in one step: one journal group commit, one fleet
+    // lock hold and one event. Returns the vehicles rejected because their ID is
+    // already in the fleet; the rest are added.
+    public List<Vehicle> addVehicles(List<Vehicle> vehicles) {
+        List<Vehicle> accepted = new ArrayList<>(vehicles.size());
+        List<Vehicle> rejected = new ArrayList<>();
+        for (Vehicle vehicle : vehicles) {
+            if (lookupVehicle(vehicle.getVehicleId()) != null
+                    || vehicleIndex.putIfAbsent(vehicle.getVehicleId(), vehicle) != null) {
+                rejected.add(vehicle);
+            } else {
+                accepted.add(vehicle);
+            }
+        }
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                journal.logVehiclesAdded(accepted);
+            } catch (RuntimeException e) {
+                for (Vehicle vehicle : accepted) {
+                    vehicleIndex.remove(vehicle.getVehicleId(), vehicle);
+                }
+                throw e;
+            }
+        }
+        synchronized (fleet) {
+            fleet.addAll(accepted);
+            pricingEngine = null;
+            FleetStore store = fleetStore;
+            if (store != null) {
+                for (Vehicle vehicle : accepted) {
+                    store.add(vehicle);
+                }
+            }
+        }
+        for (Vehicle vehicle : accepted) {
+            attachVehicle(vehicle);
+        }
+        RentalEvents.emit(RentalEventType.VEHICLES_IMPORTED, accepted);
+        return rejected;
+    }
+
+    private void insertVehicle(Vehicle vehicle) {
+        synchronized (fleet) {
+            fleet.add(vehicle);
+            pricingEngine = null;
+            FleetStore store = fleetStore;
+            if (store != null) {
+                store.add(vehicle);
+            }
+        }
+        attachVehicle(vehicle);
+    }
+
+    private void attachVehicle(Vehicle vehicle) {
+        vehicle.setOwner(this);
+        if (vehicle.isAvailable()) {
+            Set<Vehicle> pool = availablePools.get(vehicle.getType());
+            pool.add(vehicle);
+            // The vehicle may have been rented between the check and the add
+            if (!vehicle.isAvailable()) {
+                pool.remove(vehicle);
+            }
+        }
+    }
+
+    // Method to remove vehicle from fleet
+    public void removeVehicle(String vehicleId) {
+        // Fault the vehicle in first so the snapshot cannot bring it back later
+        Vehicle removed = lookupVehicle(vehicleId) != null ? vehicleIndex.remove(vehicleId) : null;
+        if (removed != null) {
+            RentalJournal journal = this.journal;
+            if (journal != null) {
+                try {
+                    journal.logVehicleRemoved(vehicleId);
+                } catch (RuntimeException e) {
+                    vehicleIndex.putIfAbsent(vehicleId, removed);
+                    throw e;
+                }
+            }
+            synchronized (fleet) {
+                fleet.remove(removed);
+                pricingEngine = null;
+                FleetStore store = fleetStore;
+                if (store != null) {
+                    store.remove(removed);
+                }
+            }
+            removed.setOwner(null);
+            availablePools.get(removed.getType()).remove(removed);
+            retiredVehicles.put(vehicleId, removed);
+        }
+        RentalEvents.emit(RentalEventType.VEHICLE_REMOVED, vehicleId);
+    }
+
+    // Method to register customer
+    public void registerCustomer(Customer customer) {
+        if (lookupCustomer(customer.getCustomerId()) != null
+                || customerIndex.putIfAbsent(customer.getCustomerId(), customer) != null) {
+            RentalEvents.emit(RentalEventType.CUSTOMER_ALREADY_REGISTERED, customer);
+            return;
+        }
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                journal.logCustomerRegistered(customer);
+            } catch (RuntimeException e) {
+                customerIndex.remove(customer.getCustomerId(), customer);
+                throw e;
+            }
+        }
+        insertCustomer(customer);
+        RentalEvents.emit(RentalEventType.CUSTOMER_REGISTERED, customer);
+    }
+
+    // Method to register many customers in one step; returns those whose ID is taken
+    public List<Customer> registerCustomers(List<Customer> newCustomers) {
+        List<Customer> accepted = new ArrayList<>(newCustomers.size());
+        List<Customer> rejected = new ArrayList<>();
+        for (Customer customer : newCustomers) {
+            if (lookupCustomer(customer.getCustomerId()) != null
+                    || customerIndex.putIfAbsent(customer.getCustomerId(), customer) != null) {
+                rejected.add(customer);
+            } else {
+                accepted.add(customer);
+            }
+        }
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                journal.logCustomersRegistered(accepted);
+            } catch (RuntimeException e) {
+                for (Customer customer : accepted) {
+                    customerIndex.remove(customer.getCustomerId(), customer);
+                }
+                throw e;
+            }
+        }
+        customers.addAll(accepted);
+        for (Customer customer : accepted) {
+            if (customer.getAgency() == null) {
+                customer.setAgency(this);
+            }
+        }
+        RentalEvents.emit(RentalEventType.CUSTOMERS_IMPORTED, accepted);
+        return rejected;
+    }
+
+    private void insertCustomer(Customer customer) {
+        customers.add(customer);
+        // A customer shared by several branches stays attached to the first one
+        if (customer.getAgency() == null) {
+            customer.setAgency(this);
+        }
+    }
+
+    // Method to swap this agency's own instance of a customer for one shared with other
+    // branches, moving its balance, credit holds and active rentals over. Used when
+    // branches restored separately are joined; call it before the agency takes holds.
+    void shareCustomer(Customer shared) {
+        Customer local = customerIndex.get(shared.getCustomerId());
+        if (local == null || local == shared || !customerIndex.replace(shared.getCustomerId(), local, shared)) {
+            return;
+        }
+        synchronized (customers) {
+            int index = customers.indexOf(local);
+            if (index >= 0) {
+                customers.set(index, shared);
+            }
+        }
+        shared.mergeLedger(local);
+        // setCustomer takes the rental's monitor, and completeRental holds that while
+        // it takes the rentals lock to archive, so re-point them after letting go
+        List<Rental> moved = new ArrayList<>();
+        synchronized (rentals) {
+            for (Rental rental : rentals) {
+                if (rental.getCustomer() == local) {
+                    moved.add(rental);
+                }
+            }
+        }
+        for (Rental rental : moved) {
+            rental.setCustomer(shared);
+        }
+    }
+
+    // Method to find vehicle by ID
+    public Vehicle findVehicle(String vehicleId) {
+        long start = RentalMetrics.start();
+        Vehicle vehicle = lookupVehicle(vehicleId);
+        if (vehicle != null) {
+            RentalMetrics.completed(RentalOperation.FIND_VEHICLE, start);
+        } else {
+            RentalMetrics.failed(RentalOperation.FIND_VEHICLE, BookingStatus.VEHICLE_NOT_FOUND.name(), start);
+        }
+        return vehicle;
+    }
+
+    // Method to find customer by ID
+    public Customer findCustomer(String customerId) {
+        long start = RentalMetrics.start();
+        Customer customer = lookupCustomer(customerId);
+        if (customer != null) {
+            RentalMetrics.completed(RentalOperation.FIND_CUSTOMER, start);
+        } else {
+            RentalMetrics.failed(RentalOperation.FIND_CUSTOMER, BookingStatus.CUSTOMER_NOT_FOUND.name(), start);
+        }
+        return customer;
+    }
+
+    // Lookups behind the public finders, left out of the metrics; used for the
+    // agency's own checks (duplicate IDs, bookings, replay) so only callers' lookups are timed
+    Vehicle lookupVehicle(String vehicleId) {
+        Vehicle vehicle = vehicleIndex.get(vehicleId);
+        FleetSnapshot snapshot = this.snapshot;
+        if (vehicle == null && snapshot != null && loadSnapshotVehicle(snapshot, snapshot.indexOfVehicle(vehicleId))) {
+            vehicle = vehicleIndex.get(vehicleId);
+        }
+        return vehicle;
+    }
+
+    Customer lookupCustomer(String customerId) {
+        Customer customer = customerIndex.get(customerId);
+        FleetSnapshot snapshot = this.snapshot;
+        if (customer == null && snapshot != null
+                && loadSnapshotCustomer(snapshot, snapshot.indexOfCustomer(customerId))) {
+            customer = customerIndex.get(customerId);
+        }
+        return customer;
+    }
+
+    // Snapshot records are loaded at most once, without journaling or events
+    private boolean loadSnapshotVehicle(FleetSnapshot snapshot, int index) {
+        if (index < 0) {
+            return false;
+        }
+        synchronized (snapshotVehiclesLoaded) {
+            if (snapshotVehiclesLoaded.get(index)) {
+                return false;
+            }
+            snapshotVehiclesLoaded.set(index);
+            Vehicle vehicle = snapshot.readVehicle(index);
+            if (vehicleIndex.putIfAbsent(vehicle.getVehicleId(), vehicle) == null) {
+                insertVehicle(vehicle);
+            }
+            pendingSnapshotVehicles.decrementAndGet();
+            return true;
+        }
+    }
+
+    private boolean loadSnapshotCustomer(FleetSnapshot snapshot, int index) {
+        if (index < 0) {
+            return false;
+        }
+        synchronized (snapshotCustomersLoaded) {
+            if (snapshotCustomersLoaded.get(index)) {
+                return false;
+            }
+            snapshotCustomersLoaded.set(index);
+            Customer customer = snapshot.readCustomer(index);
+            if (customerIndex.putIfAbsent(customer.getCustomerId(), customer) == null) {
+                insertCustomer(customer);
+            }
+            pendingSnapshotCustomers.decrementAndGet();
+            return true;
+        }
+    }
+
+    // Method to find vehicles matching a query, through the fleet store when one is attached
+    public List<Vehicle> searchVehicles(VehicleQuery query) {
+        FleetStore store = fleetStore;
+        if (store != null) {
+            return store.search(query);
+        }
+        List<Vehicle> matches = new ArrayList<>();
+        synchronized (fleet) {
+            for (Vehicle vehicle : fleet) {
+                if (query.matches(vehicle)) {
+                    matches.add(vehicle);
+                }
+            }
+        }
+        return matches;
+    }
+
+    // Method to get available vehicles
+    public List<Vehicle> getAvailableVehicles() {
+        List<Vehicle> availableVehicles = new ArrayList<>();
+        synchronized (fleet) {
+            for (Vehicle vehicle : fleet) {
+                if (vehicle.isAvailable()) {
+                    availableVehicles.add(vehicle);
+                }
+            }
+        }
+        return availableVehicles;
+    }
+
+    // Method to get vehicles with no booking in a date range
+    public List<Vehicle> getAvailableVehicles(LocalDate startDate, LocalDate endDate) {
+        List<Vehicle> availableVehicles = new ArrayList<>();
+        synchronized (fleet) {
+            for (Vehicle vehicle : fleet) {
+                if (vehicle.isAvailableFor(startDate, endDate)) {
+                    availableVehicles.add(vehicle);
+                }
+            }
+        }
+        return availableVehicles;
+    }
+
+    // Method to get available vehicles by type
+    public List<Vehicle> getAvailableVehiclesByType(String vehicleType) {
+        VehicleType type = VehicleType.fromName(vehicleType);
+        if (type == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(availablePools.get(type));
+    }
+
+    // Method to get the live, read-only set of available vehicles of one type
+    public Set<Vehicle> getAvailableVehicles(VehicleType type) {
+        return Collections.unmodifiableSet(availablePools.get(type));
+    }
+
+    // Method to create rental (Polymorphism in action)
+    public Rental createRental(String customerId, String vehicleId,
+                               LocalDate startDate, LocalDate endDate) {
+        long start = RentalMetrics.start();
+        Customer customer = lookupCustomer(customerId);
+        Vehicle vehicle = lookupVehicle(vehicleId);
+
+        if (customer == null) {
+            return rejectRental(BookingStatus.CUSTOMER_NOT_FOUND, start);
+        }
+
+        if (vehicle == null) {
+            return rejectRental(BookingStatus.VEHICLE_NOT_FOUND, start);
+        }
+
+        if (!isBookable(vehicle, startDate, endDate)) {
+            return rejectRental(BookingStatus.VEHICLE_UNAVAILABLE, start);
+        }
+
+        // Calculate rental cost once; the rental is created with this same price
+        double rentalCost = vehicle.calculateRentalPrice(rentalDays(startDate, endDate));
+
+        // Check if customer can rent the vehicle
+        BookingStatus eligibility = customer.checkEligibility(vehicle, rentalCost);
+        if (!eligibility.isAccepted()) {
+            return rejectRental(eligibility, start);
+        }
+
+        // Hold the credit and claim the dates atomically; concurrent bookings
+        // may have used up the credit or the vehicle since the checks above
+        String rentalId = nextRentalId();
+        if (!customer.reserveCredit(rentalId, rentalCost)) {
+            return rejectRental(BookingStatus.CREDIT_LIMIT_EXCEEDED, start);
+        }
+        LocalDate today = LocalDate.now();
+        if (!claimVehicle(rentalId, vehicle, startDate, endDate, today)) {
+            customer.releaseCredit(rentalId);
+            return rejectRental(BookingStatus.VEHICLE_UNAVAILABLE, start);
+        }
+        Rental rental = newRental(rentalId, customer, vehicle, startDate, endDate, rentalCost);
+
+        // Make the booking durable before anyone else can see it
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                journal.logRentalCreated(rental, today);
+            } catch (RuntimeException e) {
+                unclaimVehicle(rentalId, vehicle, startDate, today);
+                customer.releaseCredit(rentalId);
+                RentalMetrics.failed(RentalOperation.CREATE_RENTAL, JOURNAL_FAILURE, start);
+                throw e;
+            }
+        }
+        trackPickup(rental, today);
+        recordRental(rental);
+        rentalIndex.put(rentalId, rental);
+        activeRentalCount.incrementAndGet();
+        overdueTracker.track(rental);
+
+        RentalEvents.emit(RentalEventType.RENTAL_CREATED, rental, rentalCost);
+        RentalMetrics.completed(RentalOperation.CREATE_RENTAL, start);
+
+        return rental;
+    }
+
+    // Publishes a rejected booking's reason code and counts it in the metrics
+    private static Rental rejectRental(BookingStatus status, long start) {
+        RentalEvents.emit(RentalEventType.RENTAL_REJECTED, status);
+        RentalMetrics.failed(RentalOperation.CREATE_RENTAL, status.name(), start);
+        return null;
+    }
+
+    // Method to hold a vehicle and the customer's credit for the agency's hold time while
+    // the customer checks out. Runs the same checks as createRental and claims the same
+    // dates, credit and (for a pickup today) the vehicle itself, but commits nothing;
+    // confirmHold turns the hold into a rental, releaseHold or expiry gives it all back.
+    public HoldResult holdVehicle(String customerId, String vehicleId, LocalDate startDate, LocalDate endDate) {
+        return holdVehicle(customerId, vehicleId, startDate, endDate, holdTtl);
+    }
+
+    public HoldResult holdVehicle(String customerId, String vehicleId, LocalDate startDate, LocalDate endDate,
+                                  Duration ttl) {
+        long start = RentalMetrics.start();
+        Customer customer = lookupCustomer(customerId);
+        Vehicle vehicle = lookupVehicle(vehicleId);
+
+        if (customer == null) {
+            return rejectHold(BookingStatus.CUSTOMER_NOT_FOUND, start);
+        }
+        if (vehicle == null) {
+            return rejectHold(BookingStatus.VEHICLE_NOT_FOUND, start);
+        }
+        if (!isBookable(vehicle, startDate, endDate)) {
+            return rejectHold(BookingStatus.VEHICLE_UNAVAILABLE, start);
+        }
+
+        double rentalCost = vehicle.calculateRentalPrice(rentalDays(startDate, endDate));
+        BookingStatus eligibility = customer.checkEligibility(vehicle, rentalCost);
+        if (!eligibility.isAccepted()) {
+            return rejectHold(eligibility, start);
+        }
+
+        String holdId = nextRentalId();
+        if (!customer.reserveCredit(holdId, rentalCost)) {
+            return rejectHold(BookingStatus.CREDIT_LIMIT_EXCEEDED, start);
+        }
+        LocalDate today = LocalDate.now();
+        if (!claimVehicle(holdId, vehicle, startDate, endDate, today)) {
+            customer.releaseCredit(holdId);
+            return rejectHold(BookingStatus.VEHICLE_UNAVAILABLE, start);
+        }
+        RentalHold hold = new RentalHold(holdId, customer, vehicle, startDate, endDate, rentalCost, today,
+                System.nanoTime() + ttl.toNanos());
+        holds.put(holdId, hold);
+        holdReaper.schedule(hold);
+
+        RentalEvents.emit(RentalEventType.HOLD_PLACED, hold, rentalCost);
+        RentalMetrics.completed(RentalOperation.HOLD_VEHICLE, start);
+        return new HoldResult(BookingStatus.ACCEPTED, hold);
+    }
+
+    // Publishes a refused hold's reason code and counts it in the metrics
+    private static HoldResult rejectHold(BookingStatus status, long start) {
+        RentalEvents.emit(RentalEventType.HOLD_REJECTED, status);
+        RentalMetrics.failed(RentalOperation.HOLD_VEHICLE, status.name(), start);
+        return new HoldResult(status, null);
+    }
+
+    // Method to find a hold that has not yet ended
+    public RentalHold findHold(String holdId) {
+        return holds.get(holdId);
+    }
+
+    // Method to turn a hold into a rental with the held price and the hold's ID;
+    // returns null if the hold is unknown, has ended or is past its expiry time
+    public Rental confirmHold(String holdId) {
+        long start = RentalMetrics.start();
+        RentalHold hold = holds.get(holdId);
+        if (hold != null && hold.isDue(System.nanoTime())) {
+            // Past its time but not yet reaped
+            expireHold(hold);
+        }
+        if (hold == null || !hold.end(RentalHold.State.CONFIRMED)) {
+            RentalEvents.emit(RentalEventType.HOLD_REJECTED, holdId);
+            RentalMetrics.failed(RentalOperation.CONFIRM_HOLD, hold == null ? HOLD_NOT_FOUND : HOLD_ENDED, start);
+            return null;
+        }
+        holds.remove(holdId, hold);
+        Customer customer = hold.getCustomer();
+        Vehicle vehicle = hold.getVehicle();
+        Rental rental = newRental(holdId, customer, vehicle, hold.getStartDate(), hold.getEndDate(),
+                hold.getTotalCost());
+
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                journal.logRentalCreated(rental, hold.getPlacedOn());
+            } catch (RuntimeException e) {
+                unclaimVehicle(holdId, vehicle, hold.getStartDate(), hold.getPlacedOn());
+                customer.releaseCredit(holdId);
+                hold.confirmationFailed();
+                RentalMetrics.failed(RentalOperation.CONFIRM_HOLD, JOURNAL_FAILURE, start);
+                throw e;
+            }
+        }
+        trackPickup(rental, hold.getPlacedOn());
+        recordRental(rental);
+        rentalIndex.put(holdId, rental);
+        activeRentalCount.incrementAndGet();
+        overdueTracker.track(rental);
+
+        RentalEvents.emit(RentalEventType.RENTAL_CREATED, rental, hold.getTotalCost());
+        RentalMetrics.completed(RentalOperation.CONFIRM_HOLD, start);
+        return rental;
+    }
+
+    // Method to give a hold's vehicle and credit back before it expires; false if it has already ended
+    public boolean releaseHold(String holdId) {
+        RentalHold hold = holds.get(holdId);
+        if (hold == null || !hold.end(RentalHold.State.RELEASED)) {
+            RentalEvents.emit(RentalEventType.HOLD_REJECTED, holdId);
+            return false;
+        }
+        freeHold(hold);
+        RentalEvents.emit(RentalEventType.HOLD_RELEASED, hold);
+        return true;
+    }
+
+    // Called by the hold reaper, and by confirmHold for a hold past its time
+    private boolean expireHold(RentalHold hold) {
+        if (!hold.end(RentalHold.State.EXPIRED)) {
+            return false;
+        }
+        freeHold(hold);
+        RentalEvents.emit(RentalEventType.HOLD_EXPIRED, hold);
+        return true;
+    }
+
+    private void freeHold(RentalHold hold) {
+        holds.remove(hold.getHoldId(), hold);
+        unclaimVehicle(hold.getHoldId(), hold.getVehicle(), hold.getStartDate(), hold.getPlacedOn());
+        hold.getCustomer().releaseCredit(hold.getHoldId());
+    }
+
+    // Method to create many rentals at once. IDs are resolved in a single pass,
+    // each accepted booking holds its customer's credit before the next is checked,
+    // and the accepted rentals are committed together at the end.
+    public List<BookingResult> createRentals(List<BookingRequest> requests) {
+        List<BookingResult> results = new ArrayList<>(requests.size());
+        List<Rental> accepted = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+
+        for (BookingRequest request : requests) {
+            Customer customer = lookupCustomer(request.getCustomerId());
+            Vehicle vehicle = lookupVehicle(request.getVehicleId());
+            BookingStatus status;
+            Rental rental = null;
+
+            if (customer == null) {
+                status = BookingStatus.CUSTOMER_NOT_FOUND;
+            } else if (vehicle == null) {
+                status = BookingStatus.VEHICLE_NOT_FOUND;
+            } else if (!isBookable(vehicle, request.getStartDate(), request.getEndDate())) {
+                status = BookingStatus.VEHICLE_UNAVAILABLE;
+            } else {
+                // Earlier bookings in the batch already hold credit, so each check sees them
+                double rentalCost = vehicle.calculateRentalPrice(
+                        rentalDays(request.getStartDate(), request.getEndDate()));
+                status = customer.checkEligibility(vehicle, rentalCost);
+                if (status.isAccepted()) {
+                    String rentalId = nextRentalId();
+                    if (!customer.reserveCredit(rentalId, rentalCost)) {
+                        status = BookingStatus.CREDIT_LIMIT_EXCEEDED;
+                    } else if (claimVehicle(rentalId, vehicle, request.getStartDate(), request.getEndDate(), today)) {
+                        rental = newRental(rentalId, customer, vehicle, request.getStartDate(), request.getEndDate(),
+                                rentalCost);
+                        accepted.add(rental);
+                    } else {
+                        customer.releaseCredit(rentalId);
+                        status = BookingStatus.VEHICLE_UNAVAILABLE;
+                    }
+                }
+            }
+            results.add(new BookingResult(request, status, rental));
+        }
+
+        // Commit every accepted rental in one step, behind a single journal group commit
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                journal.logRentalsCreated(accepted, today);
+            } catch (RuntimeException e) {
+                for (Rental rental : accepted) {
+                    unclaimVehicle(rental.getRentalId(), rental.getVehicle(), rental.getStartDate(), today);
+                    rental.getCustomer().releaseCredit(rental.getRentalId());
+                }
+                throw e;
+            }
+        }
+        for (Rental rental : accepted) {
+            trackPickup(rental, today);
+        }
+        synchronized (rentals) {
+            for (Rental rental : accepted) {
+                recordRental(rental);
+            }
+        }
+        for (Rental rental : accepted) {
+            rentalIndex.put(rental.getRentalId(), rental);
+        }
+        activeRentalCount.addAndGet(accepted.size());
+        overdueTracker.trackAll(accepted);
+
+        RentalEvents.emit(RentalEventType.BATCH_PROCESSED, results);
+        return results;
+    }
+
+    // Rentals are billed for at least one day
+    private static int rentalDays(LocalDate startDate, LocalDate endDate) {
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate);
+        return days <= 0 ? 1 : days;
+    }
+
+    // A booking that starts now also needs the vehicle on the lot, which
+    // an overdue rental can still be holding past its calendar range
+    private static boolean isBookable(Vehicle vehicle, LocalDate startDate, LocalDate endDate) {
+        boolean startsNow = !startDate.isAfter(LocalDate.now());
+        return vehicle.isAvailableFor(startDate, endDate) && (!startsNow || vehicle.isAvailable());
+    }
+
+    // Method to reserve the dates and, for a booking starting now, take the vehicle off the lot
+    private static boolean claimVehicle(String rentalId, Vehicle vehicle, LocalDate startDate, LocalDate endDate,
+                                        LocalDate today) {
+        ReservationCalendar calendar = vehicle.getReservationCalendar();
+        if (!calendar.reserve(rentalId, startDate, endDate)) {
+            return false;
+        }
+        // Rent the vehicle now, or leave it on the lot until a future pickup
+        if (!startDate.isAfter(today) && !vehicle.rentVehicle()) {
+            calendar.release(rentalId, startDate);
+            return false;
+        }
+        return true;
+    }
+
+    // A rental starting on its booking day took the vehicle in claimVehicle; a later
+    // one waits for the sweep on its pickup day
+    private void trackPickup(Rental rental, LocalDate bookedOn) {
+        if (!rental.getStartDate().isAfter(bookedOn)) {
+            rental.markVehicleTaken();
+            return;
+        }
+        synchronized (pendingPickups) {
+            pendingPickups.add(rental);
+        }
+    }
+
+    // Method to undo claimVehicle when the booking could not be committed
+    private static void unclaimVehicle(String rentalId, Vehicle vehicle, LocalDate startDate, LocalDate today) {
+        vehicle.getReservationCalendar().release(rentalId, startDate);
+        if (!startDate.isAfter(today)) {
+            vehicle.setAvailable(true);
+        }
+    }
+
+    // Method to re-create a journaled rental exactly as it was booked, skipping all checks
+    void restoreRental(String rentalId, String customerId, String vehicleId, LocalDate startDate,
+                       LocalDate endDate, double totalCost, LocalDate bookedOn) {
+        Customer customer = lookupCustomer(customerId);
+        Vehicle vehicle = lookupVehicle(vehicleId);
+        if (customer == null || vehicle == null) {
+            return;
+        }
+        vehicle.getReservationCalendar().reserve(rentalId, startDate, endDate);
+        if (!startDate.isAfter(bookedOn)) {
+            vehicle.setAvailable(false);
+        }
+        customer.holdCredit(rentalId, totalCost);
+        Rental rental = new Rental(rentalId, customer, vehicle, startDate, endDate, totalCost);
+        rental.setAgency(this);
+        trackPickup(rental, bookedOn);
+        recordRental(rental);
+        rentalIndex.put(rentalId, rental);
+        activeRentalCount.incrementAndGet();
+        overdueTracker.track(rental);
+
+        // Keep new rental IDs ahead of everything replayed. Replay runs before a
+        // federation sets the branch prefix, so go by the numeric tail alone.
+        int sequence = rentalSequence(rentalId);
+        if (sequence >= 0) {
+            nextRentalId.accumulateAndGet(sequence + 1, Math::max);
+        }
+    }
+
+    // Method to read the sequence number at the end of a rental ID (-1 if there is none)
+    private static int rentalSequence(String rentalId) {
+        int start = rentalId.length();
+        while (start > 0 && Character.isDigit(rentalId.charAt(start - 1))) {
+            start--;
+        }
+        int digits = rentalId.length() - start;
+        if (digits == 0 || digits > 9) {
+            return -1;
+        }
+        return Integer.parseInt(rentalId.substring(start));
+    }
+
+    private String nextRentalId() {
+        return rentalIdPrefix + nextRentalId.getAndIncrement();
+    }
+
+    private Rental newRental(String rentalId, Customer customer, Vehicle vehicle,
+                             LocalDate startDate, LocalDate endDate, double totalCost) {
+        Rental rental = new Rental(rentalId, customer, vehicle, startDate, endDate, totalCost);
+        rental.setAgency(this);
+        return rental;
+    }
+
+    // Method to quote a rental of the given length through the quote cache
+    public double quote(Vehicle vehicle, int days) {
+        long start = RentalMetrics.start();
+        double price = quoteCache.quote(vehicle, days);
+        RentalMetrics.completed(RentalOperation.QUOTE, start);
+        return price;
+    }
+
+    // Method to return vehicle; false if the rental is unknown or was already completed
+    public boolean returnVehicle(String rentalId) {
+        long start = RentalMetrics.start();
+        Rental rental = lookupRental(rentalId);
+        if (rental == null || rental.isCompleted()) {
+            RentalEvents.emit(RentalEventType.RETURN_REJECTED, rentalId);
+            RentalMetrics.failed(RentalOperation.RETURN_VEHICLE, rental == null ? RENTAL_NOT_FOUND : ALREADY_RETURNED,
+                    start);
+            return false;
+        }
+        // Another return may have completed it since the check
+        if (!rental.completeRental()) {
+            RentalMetrics.failed(RentalOperation.RETURN_VEHICLE, ALREADY_RETURNED, start);
+            return false;
+        }
+        RentalMetrics.completed(RentalOperation.RETURN_VEHICLE, start);
+        return true;
+    }
+
+    // Method to find rental by ID; archived rentals come back as detached, completed copies
+    public Rental findRental(String rentalId) {
+        long start = RentalMetrics.start();
+        Rental rental = lookupRental(rentalId);
+        if (rental != null) {
+            RentalMetrics.completed(RentalOperation.FIND_RENTAL, start);
+        } else {
+            RentalMetrics.failed(RentalOperation.FIND_RENTAL, RENTAL_NOT_FOUND, start);
+        }
+        return rental;
+    }
+
+    Rental lookupRental(String rentalId) {
+        Rental rental = rentalIndex.get(rentalId);
+        return rental != null ? rental : archive.find(rentalId, this);
+    }
+
+    // Looks up a vehicle for an archived rental, including vehicles since removed
+    Vehicle findArchivedVehicle(String vehicleId) {
+        Vehicle vehicle = lookupVehicle(vehicleId);
+        return vehicle != null ? vehicle : retiredVehicles.get(vehicleId);
+    }
+
+    // Method to display all vehicles (Polymorphism)
+    public void displayFleet() {
+        System.out.println("\n=== " + agencyName + " FLEET ===");
+        System.out.println("Total Vehicles: " + fleet.size());
+        System.out.println();
+
+        synchronized (fleet) {
+            for (Vehicle vehicle : fleet) {
+                vehicle.displayVehicleInfo(); // Polymorphic method call
+                System.out.println();
+            }
+        }
+    }
+
+    // Method to display available vehicles
+    public void displayAvailableVehicles() {
+        List<Vehicle> availableVehicles = getAvailableVehicles();
+        System.out.println("\n=== AVAILABLE VEHICLES ===");
+        System.out.println("Available: " + availableVehicles.size() + " vehicles");
+        System.out.println();
+
+        for (Vehicle vehicle : availableVehicles) {
+            vehicle.displayVehicleInfo();
+            System.out.println();
+        }
+    }
+
+    // Method to display all customers
+    public void displayCustomers() {
+        System.out.println("\n=== REGISTERED CUSTOMERS ===");
+        System.out.println("Total Customers: " + customers.size());
+        System.out.println();
+
+        synchronized (customers) {
+            for (Customer customer : customers) {
+                customer.displayCustomerInfo();
+                System.out.println();
+            }
+        }
+    }
+
+    // Method to display active rentals, a page at a time so bookings are not held up
+    public void displayActiveRentals() {
+        System.out.println("\n=== ACTIVE RENTALS ===");
+        int activeCount = 0;
+
+        RentalQuery query = new RentalQuery().status("Active");
+        String cursor = null;
+        do {
+            RentalPage page = queryRentals(query, cursor, DISPLAY_PAGE_SIZE);
+            for (Rental rental : page.getRentals()) {
+                rental.displayRentalInfo();
+                activeCount++;
+                System.out.println();
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        System.out.println("Total Active Rentals: " + activeCount);
+    }
+
+    // Method to mark rentals that ended before today as overdue; returns the newly overdue ones.
+    // Future bookings whose pickup day has come are started first.
+    public List<Rental> sweepOverdueRentals(LocalDate today) {
+        startDueRentals(today);
+        return overdueTracker.sweep(today);
+    }
+
+    // Method to list rentals that are overdue right now (completed rentals are never included)
+    public List<Rental> getOverdueRentals() {
+        sweepOverdueRentals(LocalDate.now());
+        return overdueTracker.getOverdueRentals();
+    }
+
+    // Method to take the vehicle off the lot for every booking whose pickup day has come;
+    // returns the rentals started. A booking whose vehicle is still out on an overdue
+    // rental stays queued, and one ended before pickup is dropped.
+    public List<Rental> startDueRentals(LocalDate today) {
+        List<Rental> started = new ArrayList<>();
+        synchronized (pendingPickups) {
+            List<Rental> waiting = new ArrayList<>();
+            Rental next;
+            while ((next = pendingPickups.peek()) != null && !today.isBefore(next.getStartDate())) {
+                pendingPickups.poll();
+                if (next.pickUp(today)) {
+                    started.add(next);
+                } else if (!next.isCompleted()) {
+                    waiting.add(next);
+                }
+            }
+            pendingPickups.addAll(waiting);
+        }
+        return started;
+    }
+
+    // Method to display rental history
+    public void displayRentalHistory() {
+        System.out.println("\n=== RENTAL HISTORY ===");
+        System.out.println("Total Rentals: " + getTotalRentalCount());
+        System.out.println();
+
+        RentalQuery query = new RentalQuery();
+        String cursor = null;
+        do {
+            RentalPage page = queryRentals(query, cursor, DISPLAY_PAGE_SIZE);
+            for (Rental rental : page.getRentals()) {
+                System.out.println(rental.getRentalSummary());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+    }
+
+    // Method to read rental history a page at a time, in booking order. Pass a null
+    // cursor for the first page and the previous page's cursor after that; cursors
+    // stay valid while new rentals are booked and completed ones are archived. The
+    // in-memory history and the archive are merged by history sequence; each is
+    // read a bounded chunk at a time and the query is evaluated outside their locks.
+    public RentalPage queryRentals(RentalQuery query, String cursor, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        long after = decodeCursor(cursor);
+        LocalDate today = LocalDate.now();
+        RentalArchive archive = this.archive;
+        // Archived rentals are all completed, so active and overdue queries skip the archive
+        boolean searchArchive = query.getStatus() == null || query.getStatus().equalsIgnoreCase("Completed");
+        List<Rental> page = new ArrayList<>(Math.min(pageSize, HISTORY_SCAN_CHUNK));
+        Rental[] chunk = new Rental[HISTORY_SCAN_CHUNK];
+        long[] archivedSequences = new long[searchArchive ? HISTORY_SCAN_CHUNK : 0];
+        int[] archivedRecords = new int[archivedSequences.length];
+        while (true) {
+            // Memory first: a rental is archived before it leaves the list, so one
+            // missing from this chunk is already in the archive read below
+            int count;
+            boolean memoryEnd;
+            synchronized (rentals) {
+                int from = firstRentalAfter(after);
+                count = Math.min(chunk.length, rentals.size() - from);
+                for (int i = 0; i < count; i++) {
+                    chunk[i] = rentals.get(from + i);
+                }
+                memoryEnd = from + count == rentals.size();
+            }
+            int archived = searchArchive ? archive.sequencesAfter(after, archivedSequences, archivedRecords) : 0;
+            boolean archiveEnd = !searchArchive || archived < archivedSequences.length;
+
+            // Both chunks are complete up to the smaller of their last sequences
+            long bound = Math.min(memoryEnd ? Long.MAX_VALUE : chunk[count - 1].getHistorySequence(),
+                    archiveEnd ? Long.MAX_VALUE : archivedSequences[archived - 1]);
+            int i = 0;
+            int j = 0;
+            while (true) {
+                long memorySequence = i < count ? chunk[i].getHistorySequence() : Long.MAX_VALUE;
+                long archivedSequence = j < archived ? archivedSequences[j] : Long.MAX_VALUE;
+                long sequence = Math.min(memorySequence, archivedSequence);
+                if (sequence == Long.MAX_VALUE || sequence > bound) {
+                    break;
+                }
+                Rental rental;
+                if (memorySequence == sequence) {
+                    // Archived while the chunks were read: the live object wins
+                    rental = chunk[i++];
+                    if (archivedSequence == sequence) {
+                        j++;
+                    }
+                } else {
+                    rental = archive.read(archivedRecords[j++], this);
+                }
+                after = sequence;
+                if (rental != null && query.matches(rental, today)) {
+                    page.add(rental);
+                    if (page.size() == pageSize) {
+                        boolean last = memoryEnd && archiveEnd && i == count && j == archived;
+                        return new RentalPage(page, last ? null : Long.toString(after));
+                    }
+                }
+            }
+            if (memoryEnd && archiveEnd) {
+                return new RentalPage(page, null);
+            }
+            after = bound;
+        }
+    }
+
+    private static long decodeCursor(String cursor) {
+        if (cursor == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor);
+        }
+    }
+
+    // History is in sequence order, so the resume point is a binary search away
+    private int firstRentalAfter(long sequence) {
+        int low = 0;
+        int high = rentals.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rentals.get(mid).getHistorySequence() <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Moves a completed rental to the archive, then out of the history list and index
+    private void archiveRental(Rental rental) {
+        if (!archive.append(rental)) {
+            return;
+        }
+        synchronized (rentals) {
+            int index = firstRentalAfter(rental.getHistorySequence() - 1);
+            if (index < rentals.size() && rentals.get(index) == rental) {
+                rentals.remove(index);
+            }
+        }
+        rentalIndex.remove(rental.getRentalId(), rental);
+    }
+
+    // Appends to the history under its lock, so sequences follow list order
+    private void recordRental(Rental rental) {
+        synchronized (rentals) {
+            rental.setHistorySequence(nextHistorySequence++);
+            rentals.add(rental);
+        }
+        totalRentalCount.incrementAndGet();
+    }
+
+    // Callbacks from Vehicle and Rental keeping the running statistics current
+    void vehicleAvailabilityChanged(Vehicle vehicle, boolean available) {
+        Set<Vehicle> pool = availablePools.get(vehicle.getType());
+        boolean inPool = available;
+        while (true) {
+            if (inPool) {
+                pool.add(vehicle);
+            } else {
+                pool.remove(vehicle);
+            }
+            // The vehicle may have flipped again before the pool was updated
+            boolean current = vehicle.isAvailable();
+            if (current == inPool) {
+                break;
+            }
+            inPool = current;
+        }
+        FleetStore store = fleetStore;
+        if (store != null) {
+            store.updateAvailability(vehicle);
+        }
+    }
+
+    void vehicleChanged(Vehicle vehicle) {
+        synchronized (fleet) {
+            pricingEngine = null;
+        }
+        FleetStore store = fleetStore;
+        if (store != null) {
+            store.update(vehicle);
+        }
+    }
+
+    void rentalExtending(Rental rental, LocalDate newEndDate, double additionalCost) {
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            journal.logRentalExtended(rental.getRentalId(), newEndDate, additionalCost);
+        }
+    }
+
+    void rentalCompleting(Rental rental, LocalDate returnDate) {
+        RentalJournal journal = this.journal;
+        if (journal != null) {
+            journal.logRentalCompleted(rental.getRentalId(), returnDate);
+        }
+    }
+
+    void rentalCompleted(Rental rental) {
+        activeRentalCount.decrementAndGet();
+        completedRevenue.add(rental.getTotalCost());
+        overdueTracker.completed(rental);
+        archiveRental(rental);
+    }
+
+    void rentalExtended(Rental rental) {
+        overdueTracker.extended(rental);
+    }
+
+    // Allocation-free statistics reads (O(1), no fleet or rental scans)
+    // Snapshot records not yet loaded count as registered, available vehicles
+    public int getTotalVehicleCount() { return fleet.size() + pendingSnapshotVehicles.get(); }
+    public int getAvailableVehicleCount() {
+        int count = pendingSnapshotVehicles.get();
+        for (Set<Vehicle> pool : availablePools.values()) {
+            count += pool.size();
+        }
+        return count;
+    }
+    public int getTotalCustomerCount() { return customers.size() + pendingSnapshotCustomers.get(); }
+    public int getTotalRentalCount() { return totalRentalCount.get(); }
+    public int getActiveRentalCount() { return activeRentalCount.get(); }
+    public double getTotalRevenue() { return completedRevenue.sum(); }
+
+    // Method to build a pricing engine over the current fleet for whole-fleet quotes
+    public FleetPricingEngine createPricingEngine() {
+        synchronized (fleet) {
+            return new FleetPricingEngine(fleet);
+        }
+    }
+
+    // Method to check which vehicles a customer can rent for the given number of days
+    // from today, with a reason code for every vehicle; returns null if the customer is not found
+    public FleetEligibility checkEligibility(String customerId, int days) {
+        return checkEligibility(customerId, LocalDate.now(), days);
+    }
+
+    public FleetEligibility checkEligibility(String customerId, LocalDate startDate, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Rental must be at least one day");
+        }
+        Customer customer = lookupCustomer(customerId);
+        if (customer == null) {
+            return null;
+        }
+        FleetPricingEngine engine = pricingEngine;
+        if (engine == null) {
+            synchronized (fleet) {
+                engine = pricingEngine;
+                if (engine == null) {
+                    engine = new FleetPricingEngine(fleet);
+                    pricingEngine = engine;
+                }
+            }
+        }
+        return engine.checkEligibility(customer, startDate, days);
+    }
+
+    // Method to take a snapshot of the agency statistics
+    public AgencyStatistics getStatistics() {
+        return new AgencyStatistics(getTotalVehicleCount(), getAvailableVehicleCount(), getTotalCustomerCount(),
+                getTotalRentalCount(), getActiveRentalCount(), getTotalRevenue());
+    }
+
+    // Method to get agency statistics
+    public void displayAgencyStatistics() {
+        AgencyStatistics statistics = getStatistics();
+
+        System.out.println("\n=== AGENCY STATISTICS ===");
+        System.out.println("Agency: " + agencyName);
+        System.out.println("Address: " + address);
+        System.out.println("Phone: " + phoneNumber);
+        System.out.println();
+        System.out.println("Fleet Statistics:");
+        System.out.println("- Total Vehicles: " + statistics.getTotalVehicles());
+        System.out.println("- Available Vehicles: " + statistics.getAvailableVehicles());
+        System.out.println("- Rented Vehicles: " + statistics.getRentedVehicles());
+        System.out.println();
+        System.out.println("Business Statistics:");
+        System.out.println("- Total Customers: " + statistics.getTotalCustomers());
+        System.out.println("- Total Rentals: " + statistics.getTotalRentals());
+        System.out.println("- Active Rentals: " + statistics.getActiveRentals());
+        System.out.println("- Total Revenue: $" + String.format("%.2f", statistics.getTotalRevenue()));
+        System.out.println("========================");
+    }
+}
@@ -0,0 +1,330 @@
+package carrental;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// RentalArchive class holding completed rentals as fixed-width records outside the
+// Java heap, either in direct memory or in a file. Records are appended in the
+// order rentals complete. An open-addressing table of record numbers finds a
+// rental by ID, and a sorted array of history sequences lets paged history
+// queries read archived rentals in booking order. Both indexes are primitive
+// arrays, so an archived rental costs a few bytes of heap instead of a Rental
+// object graph. The file is rewritten from the start on open: the journal stays
+// the record of truth and replay archives completed rentals again.
+public class RentalArchive implements Closeable {
+    static final int ID_BYTES = 32;
+    static final int RECORD_SIZE = 128;
+    private static final int SEGMENT_RECORDS = 8192;
+    private static final int PENDING_LIMIT = 4096;
+
+    // Record layout: sequence, start/end/return epoch days, total cost bits, then
+    // rental, customer and vehicle IDs, each a length byte and up to ID_BYTES of UTF-8
+    private static final int SEQUENCE = 0;
+    private static final int START_DATE = 8;
+    private static final int END_DATE = 12;
+    private static final int RETURN_DATE = 16;
+    private static final int TOTAL_COST = 20;
+    private static final int RENTAL_ID = 28;
+    private static final int CUSTOMER_ID = RENTAL_ID + 1 + ID_BYTES;
+    private static final int VEHICLE_ID = CUSTOMER_ID + 1 + ID_BYTES;
+
+    private final Storage storage;
+    private int count;
+
+    // Rental ID index: record number + 1 per slot (0 = empty), with the ID hash beside it
+    private int[] table;
+    private int[] hashes;
+
+    // Sequence index: a sorted main part and a small sorted part for recent arrivals
+    private long[] sequences;
+    private int[] records;
+    private int sorted;
+    private long[] pendingSequences;
+    private int[] pendingRecords;
+    private int pending;
+
+    private RentalArchive(Storage storage) {
+        this.storage = storage;
+        this.table = new int[1024];
+        this.hashes = new int[1024];
+        this.sequences = new long[1024];
+        this.records = new int[1024];
+        this.pendingSequences = new long[PENDING_LIMIT];
+        this.pendingRecords = new int[PENDING_LIMIT];
+    }
+
+    // Method to create an archive in direct (off-heap) memory
+    public static RentalArchive offHeap() {
+        return new RentalArchive(new MemoryStorage());
+    }
+
+    // Method to create an archive backed by a file, replacing its contents
+    public static RentalArchive open(Path path) throws IOException {
+        return new RentalArchive(new FileStorage(path));
+    }
+
+    // Method to get the number of archived rentals
+    public synchronized int size() {
+        return count;
+    }
+
+    // Method to append a completed rental; returns false when it cannot be archived
+    // (an ID longer than the record allows, or a failed write) so it stays in memory
+    synchronized boolean append(Rental rental) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putLong(SEQUENCE, rental.getHistorySequence());
+        record.putInt(START_DATE, (int) rental.getStartDate().toEpochDay());
+        record.putInt(END_DATE, (int) rental.getEndDate().toEpochDay());
+        record.putInt(RETURN_DATE, (int) rental.getActualReturnDate().toEpochDay());
+        record.putLong(TOTAL_COST, Double.doubleToLongBits(rental.getTotalCost()));
+        if (!putId(record, RENTAL_ID, rental.getRentalId())
+                || !putId(record, CUSTOMER_ID, rental.getCustomer().getCustomerId())
+                || !putId(record, VEHICLE_ID, rental.getVehicle().getVehicleId())) {
+            return false;
+        }
+        try {
+            storage.write((long) count * RECORD_SIZE, record);
+        } catch (IOException e) {
+            return false;
+        }
+        int recordNumber = count++;
+        indexId(rental.getRentalId().hashCode(), recordNumber);
+        indexSequence(rental.getHistorySequence(), recordNumber);
+        return true;
+    }
+
+    // Method to find an archived rental by ID; returns null if it is not archived
+    Rental find(String rentalId, RentalAgency agency) {
+        ByteBuffer record = findRecord(rentalId);
+        return record != null ? toRental(record, agency) : null;
+    }
+
+    // Method to list, in sequence order, up to out.length archived sequences after
+    // the given one, with their record numbers; returns how many were written
+    synchronized int sequencesAfter(long after, long[] out, int[] outRecords) {
+        int i = firstAfter(sequences, sorted, after);
+        int j = firstAfter(pendingSequences, pending, after);
+        int n = 0;
+        while (n < out.length && (i < sorted || j < pending)) {
+            if (j == pending || (i < sorted && sequences[i] < pendingSequences[j])) {
+                out[n] = sequences[i];
+                outRecords[n++] = records[i++];
+            } else {
+                out[n] = pendingSequences[j];
+                outRecords[n++] = pendingRecords[j++];
+            }
+        }
+        return n;
+    }
+
+    // Method to rebuild a record as a completed, detached Rental; null if its
+    // customer or vehicle can no longer be found
+    Rental read(int recordNumber, RentalAgency agency) {
+        return toRental(read(recordNumber), agency);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        storage.close();
+    }
+
+    private synchronized ByteBuffer findRecord(String rentalId) {
+        int hash = rentalId.hashCode();
+        int mask = table.length - 1;
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash) {
+                ByteBuffer record = read(table[slot] - 1);
+                if (rentalId.equals(getId(record, RENTAL_ID))) {
+                    return record;
+                }
+            }
+        }
+        return null;
+    }
+
+    private synchronized ByteBuffer read(int recordNumber) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        try {
+            storage.read((long) recordNumber * RECORD_SIZE, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Rental archive read failed", e);
+        }
+        return record;
+    }
+
+    private static Rental toRental(ByteBuffer record, RentalAgency agency) {
+        Customer customer = agency.lookupCustomer(getId(record, CUSTOMER_ID));
+        Vehicle vehicle = agency.findArchivedVehicle(getId(record, VEHICLE_ID));
+        if (customer == null || vehicle == null) {
+            return null;
+        }
+        Rental rental = new Rental(getId(record, RENTAL_ID), customer, vehicle,
+                LocalDate.ofEpochDay(record.getInt(START_DATE)), LocalDate.ofEpochDay(record.getInt(END_DATE)),
+                LocalDate.ofEpochDay(record.getInt(RETURN_DATE)), Double.longBitsToDouble(record.getLong(TOTAL_COST)));
+        rental.setHistorySequence(record.getLong(SEQUENCE));
+        return rental;
+    }
+
+    private static boolean putId(ByteBuffer record, int offset, String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > ID_BYTES) {
+            return false;
+        }
+        record.put(offset, (byte) bytes.length);
+        record.put(offset + 1, bytes);
+        return true;
+    }
+
+    private static String getId(ByteBuffer record, int offset) {
+        byte[] bytes = new byte[record.get(offset)];
+        record.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void indexId(int hash, int recordNumber) {
+        // Keep the table at most half full
+        if (count * 2 > table.length) {
+            int[] oldTable = table;
+            int[] oldHashes = hashes;
+            table = new int[oldTable.length * 2];
+            hashes = new int[oldTable.length * 2];
+            for (int slot = 0; slot < oldTable.length; slot++) {
+                if (oldTable[slot] != 0) {
+                    place(oldHashes[slot], oldTable[slot]);
+                }
+            }
+        }
+        place(hash, recordNumber + 1);
+    }
+
+    private void place(int hash, int entry) {
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry;
+        hashes[slot] = hash;
+    }
+
+    // Rentals mostly complete in booking order, so arrivals usually land at the end
+    private void indexSequence(long sequence, int recordNumber) {
+        int at = firstAfter(pendingSequences, pending, sequence);
+        System.arraycopy(pendingSequences, at, pendingSequences, at + 1, pending - at);
+        System.arraycopy(pendingRecords, at, pendingRecords, at + 1, pending - at);
+        pendingSequences[at] = sequence;
+        pendingRecords[at] = recordNumber;
+        if (++pending == PENDING_LIMIT) {
+            mergePending();
+        }
+    }
+
+    private void mergePending() {
+        long[] mergedSequences = new long[Math.max(sequences.length, sorted + pending)];
+        int[] mergedRecords = new int[mergedSequences.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < sorted || j < pending) {
+            if (j == pending || (i < sorted && sequences[i] < pendingSequences[j])) {
+                mergedSequences[n] = sequences[i];
+                mergedRecords[n++] = records[i++];
+            } else {
+                mergedSequences[n] = pendingSequences[j];
+                mergedRecords[n++] = pendingRecords[j++];
+            }
+        }
+        sequences = mergedSequences;
+        records = mergedRecords;
+        sorted = n;
+        pending = 0;
+    }
+
+    // Index of the first sequence greater than the given one
+    private static int firstAfter(long[] values, int size, long sequence) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Where the records live
+    private interface Storage extends Closeable {
+        void write(long position, ByteBuffer record) throws IOException;
+        void read(long position, ByteBuffer record) throws IOException;
+    }
+
+    // Direct buffers of SEGMENT_RECORDS records each, added as the archive grows
+    private static final class MemoryStorage implements Storage {
+        private final List<ByteBuffer> segments = new ArrayList<>();
+
+        @Override
+        public void write(long position, ByteBuffer record) {
+            int segment = (int) (position / (SEGMENT_RECORDS * RECORD_SIZE));
+            if (segment == segments.size()) {
+                segments.add(ByteBuffer.allocateDirect(SEGMENT_RECORDS * RECORD_SIZE));
+            }
+            segments.get(segment).put((int) (position % (SEGMENT_RECORDS * RECORD_SIZE)), record, 0, RECORD_SIZE);
+        }
+
+        @Override
+        public void read(long position, ByteBuffer record) {
+            int segment = (int) (position / (SEGMENT_RECORDS * RECORD_SIZE));
+            segments.get(segment).get((int) (position % (SEGMENT_RECORDS * RECORD_SIZE)), record.array(), 0, RECORD_SIZE);
+        }
+
+        @Override
+        public void close() {
+            segments.clear();
+        }
+    }
+
+    // Positional reads and writes on one file channel
+    private static final class FileStorage implements Storage {
+        private final FileChannel channel;
+
+        FileStorage(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        @Override
+        public void write(long position, ByteBuffer record) throws IOException {
+            record.clear();
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+        }
+
+        @Override
+        public void read(long position, ByteBuffer record) throws IOException {
+            record.clear();
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) < 0) {
+                    throw new IOException("Rental archive truncated");
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
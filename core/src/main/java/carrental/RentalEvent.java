@@ -0,0 +1,120 @@
+package carrental;
+
+import java.util.List;
+
+// RentalEvent class carrying one structured event. The human-readable message
+// is only built when a consumer calls format(), never on the publishing thread.
+public class RentalEvent {
+    private final RentalEventType type;
+    private final Object subject;  // Vehicle, Customer, Rental, RentalHold, BookingStatus, ID or batch list
+    private final double amount;
+    private final int days;
+    private final long timestamp;
+
+    // Constructor
+    public RentalEvent(RentalEventType type, Object subject, double amount, int days) {
+        this.type = type;
+        this.subject = subject;
+        this.amount = amount;
+        this.days = days;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    // Getter methods
+    public RentalEventType getType() { return type; }
+    public Object getSubject() { return subject; }
+    public double getAmount() { return amount; }
+    public int getDays() { return days; }
+    public long getTimestamp() { return timestamp; }
+
+    // Method to render the event as the console message the core used to print
+    public String format() {
+        switch (type) {
+            case VEHICLE_ADDED:
+                return vehicle().getVehicleSummary() + " added to fleet.";
+            case VEHICLES_IMPORTED:
+                return ((List<?>) subject).size() + " vehicle(s) added to fleet.";
+            case VEHICLE_ALREADY_IN_FLEET:
+                return "Vehicle " + vehicle().getVehicleId() + " is already in the fleet!";
+            case VEHICLE_REMOVED:
+                return "Vehicle " + subject + " removed from fleet.";
+            case CUSTOMER_REGISTERED:
+                return "Customer " + customer().getFullName() + " registered successfully.";
+            case CUSTOMERS_IMPORTED:
+                return ((List<?>) subject).size() + " customer(s) registered.";
+            case CUSTOMER_ALREADY_REGISTERED:
+                return "Customer " + customer().getCustomerId() + " is already registered!";
+            case VEHICLE_RENTED:
+                return vehicle().getBrand() + " " + vehicle().getModel() + " has been rented.";
+            case VEHICLE_NOT_AVAILABLE:
+                return vehicle().getBrand() + " " + vehicle().getModel() + " is not available for rental.";
+            case VEHICLE_RETURNED:
+                return vehicle().getBrand() + " " + vehicle().getModel() + " has been returned.";
+            case CHARGE_ADDED:
+                return "$" + String.format("%.2f", amount) + " charged to " + customer().getFullName();
+            case PAYMENT_RECEIVED:
+                return "Payment of $" + String.format("%.2f", amount) + " received from " + customer().getFullName();
+            case PAYMENT_REJECTED:
+                return "Invalid payment amount!";
+            case RENTAL_CREATED:
+                return "Rental created successfully!\nRental ID: " + rental().getRentalId()
+                        + "\nTotal Cost: $" + String.format("%.2f", amount);
+            case RENTAL_REJECTED:
+                return ((BookingStatus) subject).getMessage();
+            case BATCH_PROCESSED:
+                return formatBatch();
+            case LATE_FEE_APPLIED:
+                return "Late fee of $" + String.format("%.2f", amount) + " applied for " + days + " day(s) overdue.";
+            case RENTAL_COMPLETED:
+                return "Rental completed successfully!";
+            case RENTAL_ALREADY_COMPLETED:
+                return "Rental is already completed.";
+            case RENTAL_OVERDUE:
+                return "Rental " + rental().getRentalId() + " is overdue (due " + rental().getEndDate() + ").";
+            case RETURN_REJECTED:
+                return "Rental not found or already completed!";
+            case RENTAL_EXTENDED:
+                return "Rental extended by " + days + " day(s).\nAdditional cost: $" + String.format("%.2f", amount);
+            case EXTENSION_REJECTED:
+                return subject == null
+                        ? "Cannot extend rental. Either rental is completed or new date is invalid."
+                        : "Cannot extend rental. The vehicle is booked during the new dates.";
+            case HOLD_PLACED:
+                return "Vehicle " + hold().getVehicle().getVehicleId() + " held for " + hold().getCustomer().getFullName()
+                        + " (hold " + hold().getHoldId() + ", $" + String.format("%.2f", amount) + ").";
+            case HOLD_RELEASED:
+                return "Hold " + hold().getHoldId() + " released.";
+            case HOLD_EXPIRED:
+                return "Hold " + hold().getHoldId() + " expired; vehicle " + hold().getVehicle().getVehicleId()
+                        + " is free again.";
+            case HOLD_REJECTED:
+                if (subject instanceof BookingStatus) {
+                    return "Hold refused: " + ((BookingStatus) subject).getMessage();
+                }
+                return "Hold " + subject + " not found, expired or already ended!";
+            default:
+                return type.name();
+        }
+    }
+
+    private String formatBatch() {
+        List<?> results = (List<?>) subject;
+        int accepted = 0;
+        for (Object result : results) {
+            if (((BookingResult) result).isAccepted()) {
+                accepted++;
+            }
+        }
+        return "Batch processed: " + accepted + " accepted, " + (results.size() - accepted) + " rejected.";
+    }
+
+    private Vehicle vehicle() { return (Vehicle) subject; }
+    private Customer customer() { return (Customer) subject; }
+    private Rental rental() { return (Rental) subject; }
+    private RentalHold hold() { return (RentalHold) subject; }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
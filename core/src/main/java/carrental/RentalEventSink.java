@@ -0,0 +1,24 @@
+package carrental;
+
+// RentalEventSink interface implemented by anything that consumes rental events
+public interface RentalEventSink {
+    // Method to accept an event; must not block the caller on I/O
+    void publish(RentalEvent event);
+
+    // Publishers skip building events entirely when this returns false
+    default boolean isEnabled() {
+        return true;
+    }
+
+    // Sink that drops everything
+    RentalEventSink SILENT = new RentalEventSink() {
+        @Override
+        public void publish(RentalEvent event) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+}
@@ -0,0 +1,32 @@
+package carrental;
+
+// RentalEventType enum listing the state changes the rental core reports
+public enum RentalEventType {
+    VEHICLE_ADDED,
+    VEHICLES_IMPORTED,
+    VEHICLE_ALREADY_IN_FLEET,
+    VEHICLE_REMOVED,
+    CUSTOMER_REGISTERED,
+    CUSTOMERS_IMPORTED,
+    CUSTOMER_ALREADY_REGISTERED,
+    VEHICLE_RENTED,
+    VEHICLE_NOT_AVAILABLE,
+    VEHICLE_RETURNED,
+    CHARGE_ADDED,
+    PAYMENT_RECEIVED,
+    PAYMENT_REJECTED,
+    RENTAL_CREATED,
+    RENTAL_REJECTED,
+    BATCH_PROCESSED,
+    LATE_FEE_APPLIED,
+    RENTAL_COMPLETED,
+    RENTAL_ALREADY_COMPLETED,
+    RENTAL_OVERDUE,
+    RETURN_REJECTED,
+    RENTAL_EXTENDED,
+    EXTENSION_REJECTED,
+    HOLD_PLACED,
+    HOLD_RELEASED,
+    HOLD_EXPIRED,
+    HOLD_REJECTED
+}
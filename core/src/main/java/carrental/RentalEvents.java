@@ -0,0 +1,64 @@
+package carrental;
+
+// RentalEvents class holding the process-wide event sink the rental core publishes to.
+// The default console sink and its thread are only started if an event is published
+// before any other sink is installed. RentalEvents closes that default sink when it
+// is replaced; sinks installed by callers are theirs to close.
+public final class RentalEvents {
+    private static volatile RentalEventSink sink;          // Null until first use
+    private static AsyncRingBufferEventSink defaultSink;   // Guarded by RentalEvents.class
+
+    private RentalEvents() {
+    }
+
+    public static RentalEventSink getSink() {
+        RentalEventSink current = sink;
+        return current != null ? current : installDefaultSink();
+    }
+
+    private static synchronized RentalEventSink installDefaultSink() {
+        if (sink == null) {
+            defaultSink = new AsyncRingBufferEventSink();
+            sink = defaultSink;
+        }
+        return sink;
+    }
+
+    public static void setSink(RentalEventSink newSink) {
+        AsyncRingBufferEventSink replaced;
+        synchronized (RentalEvents.class) {
+            replaced = defaultSink;
+            if (replaced != null && replaced == newSink) {
+                return;
+            }
+            sink = newSink != null ? newSink : RentalEventSink.SILENT;
+            defaultSink = null;
+        }
+        // Drain what the default sink already queued, outside the lock
+        if (replaced != null) {
+            replaced.close();
+        }
+    }
+
+    // Method to publish an event; nothing is allocated when the sink is disabled
+    static void emit(RentalEventType type, Object subject) {
+        RentalEventSink current = getSink();
+        if (current.isEnabled()) {
+            current.publish(new RentalEvent(type, subject, 0, 0));
+        }
+    }
+
+    static void emit(RentalEventType type, Object subject, double amount) {
+        RentalEventSink current = getSink();
+        if (current.isEnabled()) {
+            current.publish(new RentalEvent(type, subject, amount, 0));
+        }
+    }
+
+    static void emit(RentalEventType type, Object subject, double amount, int days) {
+        RentalEventSink current = getSink();
+        if (current.isEnabled()) {
+            current.publish(new RentalEvent(type, subject, amount, days));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package carrental;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+// RentalExporter class streaming rental history out as CSV or JSON. Rentals are
+// read through the paged history query and each row is encoded straight into a
+// fixed-size buffer that is written to the channel whenever it fills, so memory
+// use stays the same however many rentals are exported.
+public class RentalExporter {
+    private static final int PAGE_SIZE = 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "rentalId,customerId,vehicleId,startDate,endDate,returnDate,totalCost,status";
+
+    // Export formats
+    public enum Format { CSV, JSON }
+
+    private final RentalAgency agency;
+
+    // Constructor
+    public RentalExporter(RentalAgency agency) {
+        this.agency = agency;
+    }
+
+    // Method to export to a file, replacing it; returns the number of rentals written
+    public long export(RentalQuery query, Format format, Path path) throws IOException {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return export(query, format, out);
+        }
+    }
+
+    // Method to export to any channel (file, socket, pipe); the channel is left open
+    public long export(RentalQuery query, Format format, WritableByteChannel out) throws IOException {
+        Writer writer = new Writer(out);
+        StringBuilder row = new StringBuilder(256);
+        if (format == Format.CSV) {
+            writer.write(row.append(CSV_HEADER).append('\n'));
+        } else {
+            writer.write(row.append('['));
+        }
+
+        long count = 0;
+        String cursor = null;
+        do {
+            RentalPage page = agency.queryRentals(query, cursor, PAGE_SIZE);
+            for (Rental rental : page.getRentals()) {
+                row.setLength(0);
+                if (format == Format.CSV) {
+                    csvRow(row, rental);
+                } else {
+                    row.append(count == 0 ? "\n" : ",\n");
+                    jsonRow(row, rental);
+                }
+                writer.write(row);
+                count++;
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        if (format == Format.JSON) {
+            row.setLength(0);
+            writer.write(row.append(count == 0 ? "]\n" : "\n]\n"));
+        }
+        writer.flush();
+        return count;
+    }
+
+    // Fields are read under the rental's lock so a row never mixes before and after a return
+    private static void csvRow(StringBuilder row, Rental rental) {
+        synchronized (rental) {
+            TextFormat.csvField(row, rental.getRentalId()).append(',');
+            TextFormat.csvField(row, rental.getCustomer().getCustomerId()).append(',');
+            TextFormat.csvField(row, rental.getVehicle().getVehicleId()).append(',');
+            row.append(rental.getStartDate()).append(',');
+            row.append(rental.getEndDate()).append(',');
+            if (rental.getActualReturnDate() != null) {
+                row.append(rental.getActualReturnDate());
+            }
+            row.append(',').append(TextFormat.money(rental.getTotalCost())).append(',');
+            TextFormat.csvField(row, rental.getStatus()).append('\n');
+        }
+    }
+
+    private static void jsonRow(StringBuilder row, Rental rental) {
+        synchronized (rental) {
+            row.append('{');
+            TextFormat.jsonField(row, "rentalId", rental.getRentalId()).append(',');
+            TextFormat.jsonField(row, "customerId", rental.getCustomer().getCustomerId()).append(',');
+            TextFormat.jsonField(row, "vehicleId", rental.getVehicle().getVehicleId()).append(',');
+            TextFormat.jsonField(row, "startDate", rental.getStartDate().toString()).append(',');
+            TextFormat.jsonField(row, "endDate", rental.getEndDate().toString()).append(',');
+            LocalDate returned = rental.getActualReturnDate();
+            TextFormat.jsonField(row, "returnDate", returned != null ? returned.toString() : null).append(',');
+            row.append("\"totalCost\":").append(TextFormat.money(rental.getTotalCost())).append(',');
+            TextFormat.jsonField(row, "status", rental.getStatus()).append('}');
+        }
+    }
+
+    // UTF-8 encoder over one reusable buffer, drained to the channel when full
+    private static final class Writer {
+        private final WritableByteChannel out;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        Writer(WritableByteChannel out) {
+            this.out = out;
+        }
+
+        void write(CharSequence text) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(text);
+            while (true) {
+                CoderResult result = encoder.encode(chars, buffer, false);
+                if (result.isOverflow()) {
+                    drain();
+                } else if (result.isUnderflow()) {
+                    return;
+                } else {
+                    result.throwException();
+                }
+            }
+        }
+
+        void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
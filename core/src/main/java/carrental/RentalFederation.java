@@ -0,0 +1,296 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+// RentalFederation class giving one search and booking surface over many branches.
+// Each branch is an ordinary RentalAgency that owns its own vehicles, rentals and
+// locks. Vehicles and customers are sharded by branch through two directories:
+// vehicle ID -> owning branch and customer ID -> home branch. Bookings go straight
+// to the branch that owns the vehicle, so branches never contend with each other;
+// queries fan out to every branch in parallel on a fork-join pool and are merged
+// in branch order. A customer is a single shared instance: when they book at
+// another branch they are registered there too, so their credit limit and ledger
+// stay global.
+//
+// Each branch journals its own rentals, so after a restart every branch replays
+// its own instance of a shared customer, carrying only the money that moved
+// through that branch. addBranch folds those instances back into one: the first
+// branch added with the customer keeps its instance, and each later branch's
+// balance, credit holds and active rentals move onto it.
+public class RentalFederation {
+    private final ForkJoinPool pool;
+    private final Map<String, RentalAgency> branches;      // Branch ID -> agency, in order added
+    private final Map<String, RentalAgency> vehicleOwners;  // Vehicle ID -> owning branch
+    private final Map<String, RentalAgency> customerHomes;  // Customer ID -> home branch
+
+    // Constructors
+    public RentalFederation() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public RentalFederation(ForkJoinPool pool) {
+        this.pool = pool;
+        this.branches = new LinkedHashMap<>();
+        this.vehicleOwners = new ConcurrentHashMap<>();
+        this.customerHomes = new ConcurrentHashMap<>();
+    }
+
+    // Method to add a branch. Its existing vehicles and customers join the
+    // directories, and its rental IDs get a branch prefix so they never collide.
+    // A customer already at home in another branch is merged into that instance.
+    public synchronized void addBranch(String branchId, RentalAgency agency) {
+        if (branches.containsKey(branchId)) {
+            throw new IllegalArgumentException("Branch " + branchId + " already exists");
+        }
+        agency.setRentalIdPrefix("R" + branchId + "-");
+        synchronized (agency.getFleet()) {
+            for (Vehicle vehicle : agency.getFleet()) {
+                vehicleOwners.putIfAbsent(vehicle.getVehicleId(), agency);
+            }
+        }
+        List<Customer> sharedElsewhere = new ArrayList<>();
+        synchronized (agency.getCustomers()) {
+            for (Customer customer : agency.getCustomers()) {
+                RentalAgency home = customerHomes.putIfAbsent(customer.getCustomerId(), agency);
+                if (home != null && home != agency) {
+                    sharedElsewhere.add(home.lookupCustomer(customer.getCustomerId()));
+                }
+            }
+        }
+        for (Customer shared : sharedElsewhere) {
+            agency.shareCustomer(shared);
+        }
+        branches.put(branchId, agency);
+    }
+
+    // Getter methods
+    public synchronized RentalAgency getBranch(String branchId) { return branches.get(branchId); }
+    public synchronized List<RentalAgency> getBranches() { return new ArrayList<>(branches.values()); }
+    public synchronized int getBranchCount() { return branches.size(); }
+
+    // Method to find the branch that owns a vehicle
+    public RentalAgency getOwningBranch(String vehicleId) {
+        return vehicleOwners.get(vehicleId);
+    }
+
+    // Method to add a vehicle to a branch; vehicle IDs are unique across the federation
+    public void addVehicle(String branchId, Vehicle vehicle) {
+        RentalAgency branch = requireBranch(branchId);
+        if (vehicleOwners.putIfAbsent(vehicle.getVehicleId(), branch) != null) {
+            RentalEvents.emit(RentalEventType.VEHICLE_ALREADY_IN_FLEET, vehicle);
+            return;
+        }
+        branch.addVehicle(vehicle);
+    }
+
+    public void removeVehicle(String vehicleId) {
+        RentalAgency branch = vehicleOwners.remove(vehicleId);
+        if (branch != null) {
+            branch.removeVehicle(vehicleId);
+        } else {
+            RentalEvents.emit(RentalEventType.VEHICLE_REMOVED, vehicleId);
+        }
+    }
+
+    // Method to register a customer at their home branch
+    public void registerCustomer(String branchId, Customer customer) {
+        RentalAgency branch = requireBranch(branchId);
+        if (customerHomes.putIfAbsent(customer.getCustomerId(), branch) != null) {
+            RentalEvents.emit(RentalEventType.CUSTOMER_ALREADY_REGISTERED, customer);
+            return;
+        }
+        branch.registerCustomer(customer);
+    }
+
+    // Lookups are routed through the directories (one branch lookup each)
+    public Vehicle findVehicle(String vehicleId) {
+        RentalAgency branch = vehicleOwners.get(vehicleId);
+        return branch != null ? branch.findVehicle(vehicleId) : null;
+    }
+
+    public Customer findCustomer(String customerId) {
+        RentalAgency home = customerHomes.get(customerId);
+        return home != null ? home.findCustomer(customerId) : null;
+    }
+
+    // Rental IDs carry the branch prefix, but a lookup in each branch is just as cheap
+    public Rental findRental(String rentalId) {
+        for (RentalAgency branch : getBranches()) {
+            Rental rental = branch.findRental(rentalId);
+            if (rental != null) {
+                return rental;
+            }
+        }
+        return null;
+    }
+
+    // Method to book a vehicle at the branch that owns it
+    public Rental createRental(String customerId, String vehicleId, LocalDate startDate, LocalDate endDate) {
+        RentalAgency branch = vehicleOwners.get(vehicleId);
+        if (branch == null) {
+            RentalEvents.emit(RentalEventType.RENTAL_REJECTED, BookingStatus.VEHICLE_NOT_FOUND);
+            return null;
+        }
+        if (!ensureRegistered(customerId, branch)) {
+            RentalEvents.emit(RentalEventType.RENTAL_REJECTED, BookingStatus.CUSTOMER_NOT_FOUND);
+            return null;
+        }
+        return branch.createRental(customerId, vehicleId, startDate, endDate);
+    }
+
+    // Method to book many vehicles at once. Requests are grouped by owning branch,
+    // each branch processes its share as one batch in parallel with the others,
+    // and the results come back in request order.
+    public List<BookingResult> createRentals(List<BookingRequest> requests) {
+        BookingResult[] results = new BookingResult[requests.size()];
+        Map<RentalAgency, List<Integer>> byBranch = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BookingRequest request = requests.get(i);
+            RentalAgency branch = vehicleOwners.get(request.getVehicleId());
+            if (branch == null) {
+                results[i] = new BookingResult(request, BookingStatus.VEHICLE_NOT_FOUND, null);
+            } else if (!ensureRegistered(request.getCustomerId(), branch)) {
+                results[i] = new BookingResult(request, BookingStatus.CUSTOMER_NOT_FOUND, null);
+            } else {
+                byBranch.computeIfAbsent(branch, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<ForkJoinTask<?>> batches = new ArrayList<>(byBranch.size());
+        byBranch.forEach((branch, indexes) -> batches.add(pool.submit(() -> {
+            List<BookingRequest> share = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                share.add(requests.get(index));
+            }
+            List<BookingResult> branchResults = branch.createRentals(share);
+            for (int i = 0; i < indexes.size(); i++) {
+                results[indexes.get(i)] = branchResults.get(i);
+            }
+        })));
+        for (ForkJoinTask<?> batch : batches) {
+            batch.join();
+        }
+        return Arrays.asList(results);
+    }
+
+    // Method to return a vehicle through the branch that booked it; false if it was not returned
+    public boolean returnVehicle(String rentalId) {
+        Rental rental = findRental(rentalId);
+        if (rental != null && !rental.isCompleted()) {
+            return rental.completeRental();
+        }
+        RentalEvents.emit(RentalEventType.RETURN_REJECTED, rentalId);
+        return false;
+    }
+
+    // Fan-out queries, merged in branch order
+    public List<Vehicle> searchVehicles(VehicleQuery query) {
+        return fanOut(branch -> branch.searchVehicles(query));
+    }
+
+    public List<Vehicle> getAvailableVehicles() {
+        return fanOut(RentalAgency::getAvailableVehicles);
+    }
+
+    public List<Vehicle> getAvailableVehicles(LocalDate startDate, LocalDate endDate) {
+        return fanOut(branch -> branch.getAvailableVehicles(startDate, endDate));
+    }
+
+    public List<Vehicle> getAvailableVehiclesByType(String vehicleType) {
+        return fanOut(branch -> branch.getAvailableVehiclesByType(vehicleType));
+    }
+
+    public List<Rental> getOverdueRentals() {
+        return fanOut(RentalAgency::getOverdueRentals);
+    }
+
+    // Method to add up every branch's statistics
+    public AgencyStatistics getStatistics() {
+        int totalVehicles = 0;
+        int availableVehicles = 0;
+        int totalRentals = 0;
+        int activeRentals = 0;
+        double totalRevenue = 0.0;
+        for (RentalAgency branch : getBranches()) {
+            AgencyStatistics statistics = branch.getStatistics();
+            totalVehicles += statistics.getTotalVehicles();
+            availableVehicles += statistics.getAvailableVehicles();
+            totalRentals += statistics.getTotalRentals();
+            activeRentals += statistics.getActiveRentals();
+            totalRevenue += statistics.getTotalRevenue();
+        }
+        // Customers who booked away from home are registered at several branches
+        return new AgencyStatistics(totalVehicles, availableVehicles, customerHomes.size(),
+                totalRentals, activeRentals, totalRevenue);
+    }
+
+    // Registers the shared customer at a branch the first time they book there
+    private boolean ensureRegistered(String customerId, RentalAgency branch) {
+        if (branch.lookupCustomer(customerId) != null) {
+            return true;
+        }
+        RentalAgency home = customerHomes.get(customerId);
+        Customer customer = home != null ? home.lookupCustomer(customerId) : null;
+        if (customer == null) {
+            return false;
+        }
+        branch.registerCustomer(customer);
+        return true;
+    }
+
+    private RentalAgency requireBranch(String branchId) {
+        RentalAgency branch = getBranch(branchId);
+        if (branch == null) {
+            throw new IllegalArgumentException("Unknown branch " + branchId);
+        }
+        return branch;
+    }
+
+    private <T> List<T> fanOut(Function<RentalAgency, List<T>> query) {
+        List<RentalAgency> targets = getBranches();
+        return pool.invoke(new FanOut<>(targets.toArray(new RentalAgency[0]), 0, targets.size(), query));
+    }
+
+    // Splits the branch range in half until each task covers one branch
+    @SuppressWarnings("serial") // Never serialized
+    private static final class FanOut<T> extends RecursiveTask<List<T>> {
+        private final RentalAgency[] branches;
+        private final int from;
+        private final int to;
+        private final Function<RentalAgency, List<T>> query;
+
+        FanOut(RentalAgency[] branches, int from, int to, Function<RentalAgency, List<T>> query) {
+            this.branches = branches;
+            this.from = from;
+            this.to = to;
+            this.query = query;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from == 0) {
+                return new ArrayList<>();
+            }
+            if (to - from == 1) {
+                return new ArrayList<>(query.apply(branches[from]));
+            }
+            int middle = (from + to) >>> 1;
+            FanOut<T> left = new FanOut<>(branches, from, middle, query);
+            FanOut<T> right = new FanOut<>(branches, middle, to, query);
+            left.fork();
+            List<T> merged = right.compute();
+            merged.addAll(0, left.join());
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// RentalHold class: a vehicle's dates and a customer's credit claimed while the
+// customer checks out. The hold ID becomes the rental ID when it is confirmed.
+// A hold ends exactly once, by being confirmed, released or expiring; whichever
+// gets there first wins and the others see the hold as ended.
+public class RentalHold {
+    // Where the hold is in its life
+    public enum State { HELD, CONFIRMED, RELEASED, EXPIRED }
+
+    private final String holdId;
+    private final Customer customer;
+    private final Vehicle vehicle;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final double totalCost;
+    private final LocalDate placedOn;   // Decides whether the vehicle was taken off the lot
+    private final long expiresAt;       // System.nanoTime() deadline
+    private final AtomicReference<State> state;
+
+    // Constructor
+    RentalHold(String holdId, Customer customer, Vehicle vehicle, LocalDate startDate, LocalDate endDate,
+               double totalCost, LocalDate placedOn, long expiresAt) {
+        this.holdId = holdId;
+        this.customer = customer;
+        this.vehicle = vehicle;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalCost = totalCost;
+        this.placedOn = placedOn;
+        this.expiresAt = expiresAt;
+        this.state = new AtomicReference<>(State.HELD);
+    }
+
+    // Getter methods
+    public String getHoldId() { return holdId; }
+    public Customer getCustomer() { return customer; }
+    public Vehicle getVehicle() { return vehicle; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public double getTotalCost() { return totalCost; }
+    public LocalDate getPlacedOn() { return placedOn; }
+    public long getExpiresAt() { return expiresAt; } // System.nanoTime() deadline
+    public State getState() { return state.get(); }
+    public boolean isHeld() { return state.get() == State.HELD; }
+
+    // Method to get the time left before the hold expires (0 once it is due)
+    public long getRemainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAt - System.nanoTime()));
+    }
+
+    boolean isDue(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    // Method to end the hold; false if it had already ended
+    boolean end(State outcome) {
+        return state.compareAndSet(State.HELD, outcome);
+    }
+
+    // A confirmation that could not be committed leaves the hold released
+    void confirmationFailed() {
+        state.compareAndSet(State.CONFIRMED, State.RELEASED);
+    }
+}
@@ -0,0 +1,593 @@
+package carrental;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// RentalHttpServer class exposing the rental agency over HTTP with the JDK's built-in
+// HttpServer. Every request runs on its own virtual thread when the runtime has them
+// (Java 21+); on older runtimes a cached thread pool is used instead. The agency is
+// already safe for concurrent use, so handlers call it directly.
+//
+// Endpoints (parameters are query parameters or a form-encoded body; replies are JSON):
+//   POST /customers               customerId, firstName, lastName, email, phone, license,
+//                                 age, motorcycleLicense, creditLimit
+//   GET  /customers/{id}/vehicles days, optional start (default today); the vehicles the customer
+//                                 can rent with their quotes, and how many were rejected for each reason code
+//   GET  /vehicles                available vehicles; optional start/end dates and the
+//                                 VehicleQuery criteria (type, brand, model, color, fuel,
+//                                 transmission, doors, airConditioning, minYear, maxYear,
+//                                 maxMileage, minPrice, maxPrice, minEngineSize, maxEngineSize, power)
+//   GET  /quote                   vehicleId and days, or vehicleId, start and end
+//   GET  /rentals                 one page of rental history; optional status, customerId,
+//                                 from, to, cursor and limit (default 100, at most 1000)
+//   POST /rentals                 customerId, vehicleId, start, end
+//   GET  /rentals/{id}
+//   POST /holds                   customerId, vehicleId, start, end, optional ttlSeconds;
+//                                 claims the vehicle and credit until confirmed, released or expired
+//   GET  /holds/{id}
+//   POST /holds/{id}/confirm      turns the hold into a rental with the same ID
+//   POST /holds/{id}/release
+//   POST /rentals/{id}/return
+//   GET  /statistics
+//
+// Request bodies over 64 KiB are refused with 413. Unexpected failures are logged
+// and answered with a generic 500, so internal details never reach the client.
+public class RentalHttpServer implements AutoCloseable {
+    private static final Logger LOG = Logger.getLogger(RentalHttpServer.class.getName());
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final RentalAgency agency;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    static {
+        // The server writes headers and body separately; with Nagle's algorithm on, each
+        // small reply waits for the client's delayed ACK (~40 ms). Must be set before the
+        // first server is created, and an explicit -D setting wins.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    // Constructor; port 0 picks a free port
+    public RentalHttpServer(RentalAgency agency, int port) throws IOException {
+        this.agency = agency;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/customers", exchange -> handle(exchange, this::customers));
+        server.createContext("/vehicles", exchange -> handle(exchange, this::vehicles));
+        server.createContext("/quote", exchange -> handle(exchange, this::quote));
+        server.createContext("/rentals", exchange -> handle(exchange, this::rentals));
+        server.createContext("/holds", exchange -> handle(exchange, this::holds));
+        server.createContext("/statistics", exchange -> handle(exchange, this::statistics));
+    }
+
+    // Getter methods
+    public int getPort() { return server.getAddress().getPort(); }
+    public boolean isVirtualThreads() { return virtualThreads; }
+
+    public void start() {
+        server.start();
+    }
+
+    // Method to stop accepting requests and let the ones in flight finish
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() is looked up reflectively so the
+    // code still compiles for Java 17; null if this runtime has no virtual threads
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            MethodHandle factory = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invoke();
+        } catch (Throwable e) {
+            // Absent before Java 19, and a disabled preview on 19 and 20
+            return null;
+        }
+    }
+
+    // POST /customers, GET /customers/{id}/vehicles
+    private Response customers(String method, String path, Map<String, String> params) {
+        String[] parts = path.split("/");
+        if (parts.length == 4 && parts[1].equals("customers") && parts[3].equals("vehicles")) {
+            if (!method.equals("GET")) {
+                return Response.METHOD_NOT_ALLOWED;
+            }
+            LocalDate startDate = params.containsKey("start") ? LocalDate.parse(params.get("start")) : LocalDate.now();
+            return rentableVehicles(parts[2], startDate, Integer.parseInt(required(params, "days")));
+        }
+        if (!path.equals("/customers")) {
+            return Response.NOT_FOUND;
+        }
+        if (!method.equals("POST")) {
+            return Response.METHOD_NOT_ALLOWED;
+        }
+        Customer customer = new Customer(required(params, "customerId"), required(params, "firstName"),
+                required(params, "lastName"), params.getOrDefault("email", ""), params.getOrDefault("phone", ""),
+                required(params, "license"), Integer.parseInt(required(params, "age")),
+                Boolean.parseBoolean(params.get("motorcycleLicense")),
+                Double.parseDouble(required(params, "creditLimit")));
+        if (agency.lookupCustomer(customer.getCustomerId()) != null) {
+            return Response.error(409, "Customer " + customer.getCustomerId() + " is already registered");
+        }
+        agency.registerCustomer(customer);
+        // A concurrent registration of the same ID may have won
+        if (agency.lookupCustomer(customer.getCustomerId()) != customer) {
+            return Response.error(409, "Customer " + customer.getCustomerId() + " is already registered");
+        }
+        return new Response(201, customerJson(customer));
+    }
+
+    private Response rentableVehicles(String customerId, LocalDate startDate, int days) {
+        FleetEligibility eligibility = agency.checkEligibility(customerId, startDate, days);
+        if (eligibility == null) {
+            return Response.error(404, BookingStatus.CUSTOMER_NOT_FOUND.getMessage());
+        }
+        StringBuilder json = new StringBuilder(256);
+        json.append('{');
+        TextFormat.jsonField(json, "customerId", customerId).append(',');
+        TextFormat.jsonField(json, "start", startDate.toString()).append(',');
+        json.append("\"days\":").append(days).append(',');
+        TextFormat.jsonField(json, "ageBand", eligibility.getCustomer().getAgeBand().name()).append(',');
+        json.append("\"vehicles\":[");
+        int[] rejected = new int[BookingStatus.values().length];
+        boolean first = true;
+        for (int i = 0; i < eligibility.size(); i++) {
+            BookingStatus status = eligibility.getStatus(i);
+            if (!status.isAccepted()) {
+                rejected[status.ordinal()]++;
+                continue;
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            vehicleJson(json, eligibility.getVehicle(i));
+            // Reopen the vehicle object to add its quote
+            json.setLength(json.length() - 1);
+            json.append(",\"totalCost\":").append(TextFormat.money(eligibility.getQuote(i))).append('}');
+        }
+        json.append("],\"rejected\":{");
+        first = true;
+        for (BookingStatus status : BookingStatus.values()) {
+            if (rejected[status.ordinal()] > 0) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                json.append('"').append(status.name()).append("\":").append(rejected[status.ordinal()]);
+            }
+        }
+        return new Response(200, json.append("}}").toString());
+    }
+
+    // GET /vehicles
+    private Response vehicles(String method, String path, Map<String, String> params) {
+        if (!path.equals("/vehicles")) {
+            return Response.NOT_FOUND;
+        }
+        if (!method.equals("GET")) {
+            return Response.METHOD_NOT_ALLOWED;
+        }
+        VehicleQuery query = query(params);
+        List<Vehicle> vehicles;
+        if (params.containsKey("start") || params.containsKey("end")) {
+            LocalDate startDate = LocalDate.parse(required(params, "start"));
+            LocalDate endDate = LocalDate.parse(required(params, "end"));
+            checkDates(startDate, endDate);
+            vehicles = agency.getAvailableVehicles(startDate, endDate);
+            vehicles.removeIf(vehicle -> !query.matches(vehicle));
+        } else {
+            vehicles = agency.searchVehicles(query.availableOnly());
+        }
+        StringBuilder json = new StringBuilder(64 + vehicles.size() * 160).append('[');
+        for (int i = 0; i < vehicles.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            vehicleJson(json, vehicles.get(i));
+        }
+        return new Response(200, json.append(']').toString());
+    }
+
+    // GET /quote
+    private Response quote(String method, String path, Map<String, String> params) {
+        if (!path.equals("/quote")) {
+            return Response.NOT_FOUND;
+        }
+        if (!method.equals("GET")) {
+            return Response.METHOD_NOT_ALLOWED;
+        }
+        Vehicle vehicle = agency.findVehicle(required(params, "vehicleId"));
+        if (vehicle == null) {
+            return Response.error(404, BookingStatus.VEHICLE_NOT_FOUND.getMessage());
+        }
+        int days;
+        if (params.containsKey("days")) {
+            days = Integer.parseInt(params.get("days"));
+        } else {
+            LocalDate startDate = LocalDate.parse(required(params, "start"));
+            LocalDate endDate = LocalDate.parse(required(params, "end"));
+            checkDates(startDate, endDate);
+            days = (int) (endDate.toEpochDay() - startDate.toEpochDay());
+        }
+        if (days <= 0) {
+            throw new IllegalArgumentException("Rental must be at least one day");
+        }
+        StringBuilder json = new StringBuilder("{");
+        TextFormat.jsonField(json, "vehicleId", vehicle.getVehicleId()).append(',');
+        json.append("\"days\":").append(days).append(',');
+        json.append("\"totalCost\":").append(TextFormat.money(agency.quote(vehicle, days)));
+        return new Response(200, json.append('}').toString());
+    }
+
+    // POST /rentals, GET /rentals/{id}, POST /rentals/{id}/return
+    private Response rentals(String method, String path, Map<String, String> params) {
+        String[] parts = path.split("/");
+        if (parts.length < 2 || !parts[1].equals("rentals")) {
+            return Response.NOT_FOUND;
+        }
+        if (parts.length == 2) {
+            if (method.equals("GET")) {
+                return listRentals(params);
+            }
+            if (!method.equals("POST")) {
+                return Response.METHOD_NOT_ALLOWED;
+            }
+            return createRental(params);
+        }
+        Rental rental = parts.length <= 4 ? agency.findRental(parts[2]) : null;
+        if (rental == null) {
+            return Response.error(404, "Rental not found");
+        }
+        if (parts.length == 3) {
+            return method.equals("GET") ? new Response(200, rentalJson(rental)) : Response.METHOD_NOT_ALLOWED;
+        }
+        if (!parts[3].equals("return")) {
+            return Response.NOT_FOUND;
+        }
+        if (!method.equals("POST")) {
+            return Response.METHOD_NOT_ALLOWED;
+        }
+        // A return racing this one may win after the lookup, so go by what returnVehicle did
+        if (rental.isCompleted() || !agency.returnVehicle(rental.getRentalId())) {
+            return Response.error(409, "Rental " + rental.getRentalId() + " is already completed");
+        }
+        return new Response(200, rentalJson(rental));
+    }
+
+    // Bookings go through the batch path, which reports why a booking was refused
+    private Response createRental(Map<String, String> params) {
+        LocalDate startDate = LocalDate.parse(required(params, "start"));
+        LocalDate endDate = LocalDate.parse(required(params, "end"));
+        checkDates(startDate, endDate);
+        BookingRequest request = new BookingRequest(required(params, "customerId"), required(params, "vehicleId"),
+                startDate, endDate);
+        BookingResult result = agency.createRentals(Collections.singletonList(request)).get(0);
+        BookingStatus status = result.getStatus();
+        if (status.isAccepted()) {
+            return new Response(201, rentalJson(result.getRental()));
+        }
+        int code = status == BookingStatus.CUSTOMER_NOT_FOUND || status == BookingStatus.VEHICLE_NOT_FOUND ? 404 : 409;
+        StringBuilder json = new StringBuilder("{");
+        TextFormat.jsonField(json, "status", status.name()).append(',');
+        TextFormat.jsonField(json, "error", status.getMessage());
+        return new Response(code, json.append('}').toString());
+    }
+
+    // POST /holds, GET /holds/{id}, POST /holds/{id}/confirm, POST /holds/{id}/release
+    private Response holds(String method, String path, Map<String, String> params) {
+        String[] parts = path.split("/");
+        if (parts.length < 2 || !parts[1].equals("holds") || parts.length > 4) {
+            return Response.NOT_FOUND;
+        }
+        if (parts.length == 2) {
+            return method.equals("POST") ? createHold(params) : Response.METHOD_NOT_ALLOWED;
+        }
+        String holdId = parts[2];
+        if (parts.length == 3) {
+            if (!method.equals("GET")) {
+                return Response.METHOD_NOT_ALLOWED;
+            }
+            RentalHold hold = agency.findHold(holdId);
+            return hold != null ? new Response(200, holdJson(hold)) : Response.error(404, "Hold not found or ended");
+        }
+        if (!method.equals("POST")) {
+            return Response.METHOD_NOT_ALLOWED;
+        }
+        if (parts[3].equals("confirm")) {
+            Rental rental = agency.confirmHold(holdId);
+            return rental != null ? new Response(201, rentalJson(rental))
+                    : Response.error(410, "Hold " + holdId + " not found, expired or already ended");
+        }
+        if (parts[3].equals("release")) {
+            return agency.releaseHold(holdId) ? new Response(200, "{}")
+                    : Response.error(410, "Hold " + holdId + " not found, expired or already ended");
+        }
+        return Response.NOT_FOUND;
+    }
+
+    private Response createHold(Map<String, String> params) {
+        LocalDate startDate = LocalDate.parse(required(params, "start"));
+        LocalDate endDate = LocalDate.parse(required(params, "end"));
+        checkDates(startDate, endDate);
+        String customerId = required(params, "customerId");
+        String vehicleId = required(params, "vehicleId");
+        HoldResult result;
+        if (params.containsKey("ttlSeconds")) {
+            long ttlSeconds = Long.parseLong(params.get("ttlSeconds"));
+            if (ttlSeconds <= 0) {
+                throw new IllegalArgumentException("ttlSeconds must be positive");
+            }
+            result = agency.holdVehicle(customerId, vehicleId, startDate, endDate, Duration.ofSeconds(ttlSeconds));
+        } else {
+            result = agency.holdVehicle(customerId, vehicleId, startDate, endDate);
+        }
+        BookingStatus status = result.getStatus();
+        if (status.isAccepted()) {
+            return new Response(201, holdJson(result.getHold()));
+        }
+        int code = status == BookingStatus.CUSTOMER_NOT_FOUND || status == BookingStatus.VEHICLE_NOT_FOUND ? 404 : 409;
+        StringBuilder json = new StringBuilder("{");
+        TextFormat.jsonField(json, "status", status.name()).append(',');
+        TextFormat.jsonField(json, "error", status.getMessage());
+        return new Response(code, json.append('}').toString());
+    }
+
+    // GET /rentals; the cursor in the reply fetches the next page
+    private Response listRentals(Map<String, String> params) {
+        RentalQuery query = new RentalQuery().status(params.get("status")).customer(params.get("customerId"));
+        if (params.containsKey("from") || params.containsKey("to")) {
+            query.between(params.containsKey("from") ? LocalDate.parse(params.get("from")) : null,
+                    params.containsKey("to") ? LocalDate.parse(params.get("to")) : null);
+        }
+        int limit = Integer.parseInt(params.getOrDefault("limit", "100"));
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        RentalPage page = agency.queryRentals(query, params.get("cursor"), limit);
+        StringBuilder json = new StringBuilder(64 + page.getRentals().size() * 192).append("{\"rentals\":[");
+        for (int i = 0; i < page.getRentals().size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(rentalJson(page.getRentals().get(i)));
+        }
+        json.append("],");
+        TextFormat.jsonField(json, "nextCursor", page.getNextCursor());
+        return new Response(200, json.append('}').toString());
+    }
+
+    // GET /statistics
+    private Response statistics(String method, String path, Map<String, String> params) {
+        if (!path.equals("/statistics")) {
+            return Response.NOT_FOUND;
+        }
+        if (!method.equals("GET")) {
+            return Response.METHOD_NOT_ALLOWED;
+        }
+        AgencyStatistics statistics = agency.getStatistics();
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"totalVehicles\":").append(statistics.getTotalVehicles()).append(',');
+        json.append("\"availableVehicles\":").append(statistics.getAvailableVehicles()).append(',');
+        json.append("\"rentedVehicles\":").append(statistics.getRentedVehicles()).append(',');
+        json.append("\"totalCustomers\":").append(statistics.getTotalCustomers()).append(',');
+        json.append("\"totalRentals\":").append(statistics.getTotalRentals()).append(',');
+        json.append("\"activeRentals\":").append(statistics.getActiveRentals()).append(',');
+        json.append("\"totalRevenue\":").append(TextFormat.money(statistics.getTotalRevenue()));
+        return new Response(200, json.append('}').toString());
+    }
+
+    // Runs one route and turns bad input into 400 and anything else into 500
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        Response response;
+        try {
+            byte[] body = readBody(exchange);
+            if (body == null) {
+                response = Response.error(413, "Request body is larger than " + MAX_BODY_BYTES + " bytes");
+            } else {
+                Map<String, String> params = params(exchange, body);
+                response = route.handle(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), params);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException is an IllegalArgumentException
+            response = Response.error(400, e.getMessage());
+        } catch (RuntimeException e) {
+            LOG.log(Level.SEVERE, "Request failed: " + exchange.getRequestMethod() + " " + exchange.getRequestURI(), e);
+            response = Response.error(500, "Internal server error");
+        }
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.code, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Reads at most MAX_BODY_BYTES of the request body; null if there is more
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            return body.length > MAX_BODY_BYTES ? null : body;
+        }
+    }
+
+    // Query string parameters, plus a form-encoded body for POST
+    private static Map<String, String> params(HttpExchange exchange, byte[] body) {
+        Map<String, String> params = new HashMap<>();
+        parseForm(exchange.getRequestURI().getRawQuery(), params);
+        if (body.length > 0) {
+            parseForm(new String(body, StandardCharsets.UTF_8), params);
+        }
+        return params;
+    }
+
+    private static void parseForm(String form, Map<String, String> params) {
+        if (form == null || form.isEmpty()) {
+            return;
+        }
+        for (String pair : form.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing parameter " + name);
+        }
+        return value;
+    }
+
+    private static void checkDates(LocalDate startDate, LocalDate endDate) {
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+    }
+
+    private static VehicleQuery query(Map<String, String> params) {
+        VehicleQuery query = new VehicleQuery();
+        if (params.containsKey("type")) {
+            VehicleType type = VehicleType.fromName(params.get("type"));
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown vehicle type " + params.get("type"));
+            }
+            query.type(type);
+        }
+        query.brand(params.get("brand")).model(params.get("model")).color(params.get("color"))
+                .fuelType(params.get("fuel")).transmissionType(params.get("transmission"));
+        if (params.containsKey("minYear") || params.containsKey("maxYear")) {
+            query.yearBetween(Integer.parseInt(params.getOrDefault("minYear", String.valueOf(Integer.MIN_VALUE))),
+                    Integer.parseInt(params.getOrDefault("maxYear", String.valueOf(Integer.MAX_VALUE))));
+        }
+        if (params.containsKey("maxMileage")) {
+            query.maxMileage(Double.parseDouble(params.get("maxMileage")));
+        }
+        if (params.containsKey("minPrice") || params.containsKey("maxPrice")) {
+            query.priceBetween(Double.parseDouble(params.getOrDefault("minPrice", "-Infinity")),
+                    Double.parseDouble(params.getOrDefault("maxPrice", "Infinity")));
+        }
+        if (params.containsKey("doors")) {
+            query.numberOfDoors(Integer.parseInt(params.get("doors")));
+        }
+        if (params.containsKey("airConditioning")) {
+            query.airConditioning(Boolean.parseBoolean(params.get("airConditioning")));
+        }
+        if (params.containsKey("minEngineSize") || params.containsKey("maxEngineSize")) {
+            query.engineSizeBetween(Integer.parseInt(params.getOrDefault("minEngineSize", String.valueOf(Integer.MIN_VALUE))),
+                    Integer.parseInt(params.getOrDefault("maxEngineSize", String.valueOf(Integer.MAX_VALUE))));
+        }
+        query.powerCategory(params.get("power"));
+        return query;
+    }
+
+    // JSON rendering
+    private static void vehicleJson(StringBuilder json, Vehicle vehicle) {
+        json.append('{');
+        TextFormat.jsonField(json, "vehicleId", vehicle.getVehicleId()).append(',');
+        TextFormat.jsonField(json, "type", vehicle.getType().getDisplayName()).append(',');
+        TextFormat.jsonField(json, "brand", vehicle.getBrand()).append(',');
+        TextFormat.jsonField(json, "model", vehicle.getModel()).append(',');
+        json.append("\"year\":").append(vehicle.getYear()).append(',');
+        TextFormat.jsonField(json, "color", vehicle.getColor()).append(',');
+        json.append("\"mileage\":").append(vehicle.getMileage()).append(',');
+        json.append("\"pricePerDay\":").append(TextFormat.money(vehicle.getBasePricePerDay())).append('}');
+    }
+
+    private static String customerJson(Customer customer) {
+        StringBuilder json = new StringBuilder("{");
+        TextFormat.jsonField(json, "customerId", customer.getCustomerId()).append(',');
+        TextFormat.jsonField(json, "name", customer.getFullName()).append(',');
+        json.append("\"creditLimit\":").append(TextFormat.money(customer.getCreditLimit())).append(',');
+        json.append("\"balance\":").append(TextFormat.money(customer.getCurrentBalance()));
+        return json.append('}').toString();
+    }
+
+    private static String rentalJson(Rental rental) {
+        StringBuilder json = new StringBuilder("{");
+        TextFormat.jsonField(json, "rentalId", rental.getRentalId()).append(',');
+        TextFormat.jsonField(json, "customerId", rental.getCustomer().getCustomerId()).append(',');
+        TextFormat.jsonField(json, "vehicleId", rental.getVehicle().getVehicleId()).append(',');
+        TextFormat.jsonField(json, "start", rental.getStartDate().toString()).append(',');
+        TextFormat.jsonField(json, "end", rental.getEndDate().toString()).append(',');
+        json.append("\"totalCost\":").append(TextFormat.money(rental.getTotalCost())).append(',');
+        TextFormat.jsonField(json, "status", rental.getStatus());
+        return json.append('}').toString();
+    }
+
+    private static String holdJson(RentalHold hold) {
+        StringBuilder json = new StringBuilder("{");
+        TextFormat.jsonField(json, "holdId", hold.getHoldId()).append(',');
+        TextFormat.jsonField(json, "customerId", hold.getCustomer().getCustomerId()).append(',');
+        TextFormat.jsonField(json, "vehicleId", hold.getVehicle().getVehicleId()).append(',');
+        TextFormat.jsonField(json, "start", hold.getStartDate().toString()).append(',');
+        TextFormat.jsonField(json, "end", hold.getEndDate().toString()).append(',');
+        json.append("\"totalCost\":").append(TextFormat.money(hold.getTotalCost())).append(',');
+        TextFormat.jsonField(json, "state", hold.getState().name()).append(',');
+        json.append("\"expiresInMillis\":").append(hold.getRemainingMillis());
+        return json.append('}').toString();
+    }
+
+    // One endpoint: method, path and parameters in, status code and JSON out
+    private interface Route {
+        Response handle(String method, String path, Map<String, String> params);
+    }
+
+    private static final class Response {
+        static final Response NOT_FOUND = error(404, "Not found");
+        static final Response METHOD_NOT_ALLOWED = error(405, "Method not allowed");
+
+        final int code;
+        final String body;
+
+        Response(int code, String body) {
+            this.code = code;
+            this.body = body;
+        }
+
+        static Response error(int code, String message) {
+            StringBuilder json = new StringBuilder("{");
+            TextFormat.jsonField(json, "error", message);
+            return new Response(code, json.append('}').toString());
+        }
+    }
+}
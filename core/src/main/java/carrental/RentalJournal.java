@@ -0,0 +1,490 @@
+package carrental;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+// RentalJournal class: an append-only binary write-ahead log of agency state changes.
+//
+// Each record is framed as [int length][payload][int CRC32 of payload]. Writers
+// copy their frames into a shared pending buffer and wait; a single flusher thread
+// writes whatever has accumulated through the FileChannel and fsyncs once for the
+// whole group, so concurrent bookings share one disk flush instead of paying for
+// one each. Replaying the file through replay() rebuilds the agency.
+public class RentalJournal implements AutoCloseable {
+    // Record types
+    private static final byte VEHICLE_ADDED = 1;
+    private static final byte VEHICLE_REMOVED = 2;
+    private static final byte CUSTOMER_REGISTERED = 3;
+    private static final byte RENTAL_CREATED = 4;
+    private static final byte RENTAL_EXTENDED = 5;
+    private static final byte RENTAL_COMPLETED = 6;
+    private static final byte CHARGE_ADDED = 7;
+    private static final byte PAYMENT_RECEIVED = 8;
+
+    private static final byte CAR = 1;
+    private static final byte MOTORCYCLE = 2;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ReentrantLock lock;
+    private final Condition pendingWrites;
+    private final Condition groupDurable;
+    private final Thread flusher;
+
+    // Guarded by lock
+    private ByteBuffer pending;
+    private long appendedSequence;  // Frames handed to the journal so far
+    private long durableSequence;   // Frames written and fsynced so far
+    private long groupCommits;
+    private IOException failure;
+    private boolean closed;
+
+    // Constructor; appends to the file, creating it if needed
+    public RentalJournal(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.lock = new ReentrantLock();
+        this.pendingWrites = lock.newCondition();
+        this.groupDurable = lock.newCondition();
+        this.pending = ByteBuffer.allocate(64 * 1024);
+        this.flusher = new Thread(this::flushLoop, "rental-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public Path getPath() { return path; }
+
+    // Number of fsyncs so far; lower than the record count when commits were grouped
+    public long getGroupCommitCount() {
+        lock.lock();
+        try {
+            return groupCommits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRecordCount() {
+        lock.lock();
+        try {
+            return appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Logging methods; each returns once its record is on disk
+
+    public void logVehicleAdded(Vehicle vehicle) {
+        append(encode(VEHICLE_ADDED, out -> writeVehicle(out, vehicle)));
+    }
+
+    // Bulk imports go into one group commit, as the same records single adds write
+    public void logVehiclesAdded(List<Vehicle> vehicles) {
+        if (vehicles.isEmpty()) {
+            return;
+        }
+        byte[][] frames = new byte[vehicles.size()][];
+        for (int i = 0; i < frames.length; i++) {
+            Vehicle vehicle = vehicles.get(i);
+            frames[i] = encode(VEHICLE_ADDED, out -> writeVehicle(out, vehicle));
+        }
+        append(frames);
+    }
+
+    public void logVehicleRemoved(String vehicleId) {
+        append(encode(VEHICLE_REMOVED, out -> out.writeUTF(vehicleId)));
+    }
+
+    public void logCustomerRegistered(Customer customer) {
+        append(encode(CUSTOMER_REGISTERED, out -> writeCustomer(out, customer)));
+    }
+
+    public void logCustomersRegistered(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        byte[][] frames = new byte[customers.size()][];
+        for (int i = 0; i < frames.length; i++) {
+            Customer customer = customers.get(i);
+            frames[i] = encode(CUSTOMER_REGISTERED, out -> writeCustomer(out, customer));
+        }
+        append(frames);
+    }
+
+    public void logRentalCreated(Rental rental, LocalDate bookedOn) {
+        append(encodeRental(rental, bookedOn));
+    }
+
+    // All rentals of a batch go into one group commit
+    public void logRentalsCreated(List<Rental> rentals, LocalDate bookedOn) {
+        if (rentals.isEmpty()) {
+            return;
+        }
+        byte[][] frames = new byte[rentals.size()][];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = encodeRental(rentals.get(i), bookedOn);
+        }
+        append(frames);
+    }
+
+    public void logRentalExtended(String rentalId, LocalDate newEndDate, double additionalCost) {
+        append(encode(RENTAL_EXTENDED, out -> {
+            out.writeUTF(rentalId);
+            out.writeLong(newEndDate.toEpochDay());
+            out.writeDouble(additionalCost);
+        }));
+    }
+
+    public void logRentalCompleted(String rentalId, LocalDate returnDate) {
+        append(encode(RENTAL_COMPLETED, out -> {
+            out.writeUTF(rentalId);
+            out.writeLong(returnDate.toEpochDay());
+        }));
+    }
+
+    public void logChargeAdded(String customerId, double amount) {
+        append(encode(CHARGE_ADDED, out -> {
+            out.writeUTF(customerId);
+            out.writeDouble(amount);
+        }));
+    }
+
+    public void logPaymentReceived(String customerId, double amount) {
+        append(encode(PAYMENT_RECEIVED, out -> {
+            out.writeUTF(customerId);
+            out.writeDouble(amount);
+        }));
+    }
+
+    // Method to hand frames to the flusher and wait until they are durable
+    private void append(byte[]... frames) {
+        long sequence;
+        lock.lock();
+        try {
+            checkUsable();
+            for (byte[] frame : frames) {
+                if (pending.remaining() < frame.length) {
+                    ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + frame.length));
+                    pending.flip();
+                    larger.put(pending);
+                    pending = larger;
+                }
+                pending.put(frame);
+            }
+            appendedSequence += frames.length;
+            sequence = appendedSequence;
+            pendingWrites.signal();
+
+            while (durableSequence < sequence) {
+                if (failure != null) {
+                    throw new UncheckedIOException("Rental journal write failed", failure);
+                }
+                groupDurable.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkUsable() {
+        if (failure != null) {
+            throw new UncheckedIOException("Rental journal write failed", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Rental journal is closed");
+        }
+    }
+
+    // Flusher thread: write and fsync everything that queued up during the previous flush
+    private void flushLoop() {
+        ByteBuffer writing = ByteBuffer.allocate(pending.capacity());
+        while (true) {
+            long batchSequence;
+            lock.lock();
+            try {
+                while (pending.position() == 0 && !closed) {
+                    pendingWrites.awaitUninterruptibly();
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                ByteBuffer full = pending;
+                writing.clear();
+                pending = writing.capacity() >= full.capacity() ? writing : ByteBuffer.allocate(full.capacity());
+                writing = full;
+                batchSequence = appendedSequence;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                writing.flip();
+                while (writing.hasRemaining()) {
+                    channel.write(writing);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+
+            lock.lock();
+            try {
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durableSequence = batchSequence;
+                    groupCommits++;
+                }
+                groupDurable.signalAll();
+                if (error != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pendingWrites.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    // Method to rebuild an agency from a journal file. The agency must not have a
+    // journal attached while replaying. A torn or corrupt tail left by a crash is
+    // truncated away. Returns the number of records applied.
+    public static int replay(Path path, RentalAgency agency) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int applied = 0;
+        long validLength = 0;
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(path), 64 * 1024)) {
+            DataInputStream in = new DataInputStream(file);
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] payload;
+                try {
+                    int length = in.readInt();
+                    if (length <= 0 || length > 1 << 20) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                    crc.reset();
+                    crc.update(payload);
+                    if (in.readInt() != (int) crc.getValue()) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                apply(new DataInputStream(new ByteArrayInputStream(payload)), agency);
+                validLength += 8 + payload.length;
+                applied++;
+            }
+        }
+        if (validLength < Files.size(path)) {
+            try (FileChannel truncate = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                truncate.truncate(validLength);
+            }
+        }
+        return applied;
+    }
+
+    private static void apply(DataInputStream in, RentalAgency agency) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case VEHICLE_ADDED:
+                agency.addVehicle(readVehicle(in));
+                break;
+            case VEHICLE_REMOVED:
+                agency.removeVehicle(in.readUTF());
+                break;
+            case CUSTOMER_REGISTERED:
+                agency.registerCustomer(readCustomer(in));
+                break;
+            case RENTAL_CREATED: {
+                String rentalId = in.readUTF();
+                String customerId = in.readUTF();
+                String vehicleId = in.readUTF();
+                LocalDate startDate = LocalDate.ofEpochDay(in.readLong());
+                LocalDate endDate = LocalDate.ofEpochDay(in.readLong());
+                double totalCost = in.readDouble();
+                LocalDate bookedOn = LocalDate.ofEpochDay(in.readLong());
+                agency.restoreRental(rentalId, customerId, vehicleId, startDate, endDate, totalCost, bookedOn);
+                break;
+            }
+            case RENTAL_EXTENDED: {
+                Rental rental = agency.lookupRental(in.readUTF());
+                LocalDate newEndDate = LocalDate.ofEpochDay(in.readLong());
+                double additionalCost = in.readDouble();
+                if (rental != null) {
+                    rental.restoreExtension(newEndDate, additionalCost);
+                }
+                break;
+            }
+            case RENTAL_COMPLETED: {
+                Rental rental = agency.lookupRental(in.readUTF());
+                LocalDate returnDate = LocalDate.ofEpochDay(in.readLong());
+                if (rental != null) {
+                    rental.completeRental(returnDate);
+                }
+                break;
+            }
+            case CHARGE_ADDED: {
+                Customer customer = agency.lookupCustomer(in.readUTF());
+                double amount = in.readDouble();
+                if (customer != null) {
+                    customer.addCharge(amount);
+                }
+                break;
+            }
+            case PAYMENT_RECEIVED: {
+                Customer customer = agency.lookupCustomer(in.readUTF());
+                double amount = in.readDouble();
+                if (customer != null) {
+                    customer.applyPayment(amount);
+                }
+                break;
+            }
+            default:
+                throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    // Encoding helpers
+
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(byte type, RecordWriter writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0); // Length placeholder
+            out.writeByte(type);
+            writer.write(out);
+            out.writeInt(0); // CRC placeholder
+            byte[] frame = bytes.toByteArray();
+
+            int length = frame.length - 8;
+            CRC32 crc = new CRC32();
+            crc.update(frame, 4, length);
+            ByteBuffer.wrap(frame).putInt(0, length).putInt(frame.length - 4, (int) crc.getValue());
+            return frame;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory stream; cannot happen
+        }
+    }
+
+    private static byte[] encodeRental(Rental rental, LocalDate bookedOn) {
+        return encode(RENTAL_CREATED, out -> {
+            out.writeUTF(rental.getRentalId());
+            out.writeUTF(rental.getCustomer().getCustomerId());
+            out.writeUTF(rental.getVehicle().getVehicleId());
+            out.writeLong(rental.getStartDate().toEpochDay());
+            out.writeLong(rental.getEndDate().toEpochDay());
+            out.writeDouble(rental.getTotalCost());
+            out.writeLong(bookedOn.toEpochDay());
+        });
+    }
+
+    private static void writeVehicle(DataOutputStream out, Vehicle vehicle) throws IOException {
+        out.writeByte(vehicle instanceof Motorcycle ? MOTORCYCLE : CAR);
+        out.writeUTF(vehicle.getVehicleId());
+        out.writeUTF(vehicle.getBrand());
+        out.writeUTF(vehicle.getModel());
+        out.writeInt(vehicle.getYear());
+        out.writeUTF(vehicle.getColor());
+        out.writeDouble(vehicle.getMileage());
+        out.writeDouble(vehicle.getBasePricePerDay());
+        if (vehicle instanceof Motorcycle) {
+            Motorcycle motorcycle = (Motorcycle) vehicle;
+            out.writeInt(motorcycle.getEngineSize());
+            out.writeUTF(motorcycle.getMotorcycleType());
+            out.writeBoolean(motorcycle.hasSidecar());
+            out.writeBoolean(motorcycle.requiresSpecialLicense());
+        } else {
+            Car car = (Car) vehicle;
+            out.writeInt(car.getNumberOfDoors());
+            out.writeUTF(car.getFuelType());
+            out.writeUTF(car.getTransmissionType());
+            out.writeBoolean(car.hasAirConditioning());
+        }
+    }
+
+    private static Vehicle readVehicle(DataInputStream in) throws IOException {
+        byte kind = in.readByte();
+        String vehicleId = in.readUTF();
+        String brand = in.readUTF();
+        String model = in.readUTF();
+        int year = in.readInt();
+        String color = in.readUTF();
+        double mileage = in.readDouble();
+        double basePrice = in.readDouble();
+        if (kind == MOTORCYCLE) {
+            return new Motorcycle(vehicleId, brand, model, year, color, mileage, basePrice,
+                    in.readInt(), in.readUTF(), in.readBoolean(), in.readBoolean());
+        }
+        return new Car(vehicleId, brand, model, year, color, mileage, basePrice,
+                in.readInt(), in.readUTF(), in.readUTF(), in.readBoolean());
+    }
+
+    private static void writeCustomer(DataOutputStream out, Customer customer) throws IOException {
+        writeText(out, customer.getCustomerId());
+        writeText(out, customer.getFirstName());
+        writeText(out, customer.getLastName());
+        writeText(out, customer.getEmail());
+        writeText(out, customer.getPhoneNumber());
+        writeText(out, customer.getLicenseNumber());
+        out.writeInt(customer.getAge());
+        out.writeBoolean(customer.hasMotorcycleLicense());
+        out.writeDouble(customer.getCreditLimit());
+    }
+
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        out.writeUTF(text != null ? text : "");
+    }
+
+    private static Customer readCustomer(DataInputStream in) throws IOException {
+        return new Customer(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(),
+                in.readInt(), in.readBoolean(), in.readDouble());
+    }
+}
@@ -0,0 +1,112 @@
+package carrental;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// RentalMetrics class holding the process-wide latency and failure metrics for the
+// main rental operations. An operation takes a start time from start() and hands it
+// back to completed() or failed(); both are allocation-free. While metrics are off,
+// start() skips the clock and returns OFF, which the other two ignore. OFF is not 0:
+// System.nanoTime() has an arbitrary origin and may return 0 or a negative value.
+// Metrics are on unless the JVM is started with -Dcarrental.metrics=false, and can
+// be switched over JMX at runtime.
+public final class RentalMetrics {
+    public static final String OBJECT_NAME = "carrental:type=RentalMetrics";
+
+    private static final OperationMetrics[] OPERATIONS = new OperationMetrics[RentalOperation.values().length];
+    private static final long OFF = Long.MIN_VALUE;
+    private static volatile boolean enabled = !"false".equals(System.getProperty("carrental.metrics"));
+
+    static {
+        for (RentalOperation operation : RentalOperation.values()) {
+            OPERATIONS[operation.ordinal()] = new OperationMetrics(operation);
+        }
+    }
+
+    private RentalMetrics() {
+    }
+
+    public static boolean isEnabled() { return enabled; }
+    public static void setEnabled(boolean on) { enabled = on; }
+
+    public static OperationMetrics get(RentalOperation operation) {
+        return OPERATIONS[operation.ordinal()];
+    }
+
+    // Method to take an operation's start time (OFF while metrics are off)
+    static long start() {
+        return enabled ? System.nanoTime() : OFF;
+    }
+
+    // Method to record a call that succeeded
+    static void completed(RentalOperation operation, long start) {
+        if (start != OFF) {
+            OPERATIONS[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    // Method to record a call that failed, counting it under the given reason
+    static void failed(RentalOperation operation, String reason, long start) {
+        if (start != OFF) {
+            OPERATIONS[operation.ordinal()].recordError(reason, System.nanoTime() - start);
+        }
+    }
+
+    // Method to clear every operation's metrics
+    public static void reset() {
+        for (OperationMetrics metrics : OPERATIONS) {
+            metrics.reset();
+        }
+    }
+
+    // Method to render every operation's metrics as a text table, times in microseconds
+    public static String dump() {
+        StringBuilder text = new StringBuilder(1024);
+        text.append(String.format(Locale.ROOT, "%-22s %10s %8s %10s %9s %9s %9s %9s %9s %10s%n", "operation",
+                "count", "errors", "ops/s", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (OperationMetrics metrics : OPERATIONS) {
+            text.append(String.format(Locale.ROOT, "%-22s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f %10.1f%n",
+                    metrics.getOperation(), metrics.getCount(), metrics.getErrorCount(),
+                    metrics.getThroughputPerSecond(), metrics.getMeanNanos() / 1000.0,
+                    metrics.getP50Nanos() / 1000.0, metrics.getP90Nanos() / 1000.0, metrics.getP99Nanos() / 1000.0,
+                    metrics.getP999Nanos() / 1000.0, metrics.getMaxNanos() / 1000.0));
+            for (Map.Entry<String, Long> error : metrics.getErrors().entrySet()) {
+                text.append(String.format(Locale.ROOT, "    %-30s %10d%n", error.getKey(), error.getValue()));
+            }
+        }
+        return text.toString();
+    }
+
+    // Method to register the metrics with the platform MBean server: one bean to
+    // switch and dump them, and one per operation; does nothing if already registered
+    public static synchronized void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                return;
+            }
+            server.registerMBean(new Control(), name);
+            for (OperationMetrics metrics : OPERATIONS) {
+                server.registerMBean(metrics, new ObjectName(OBJECT_NAME + ",operation=" + metrics.getOperation()));
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register rental metrics MBeans", e);
+        }
+    }
+
+    private static final class Control implements RentalMetricsMXBean {
+        @Override
+        public boolean isEnabled() { return RentalMetrics.isEnabled(); }
+        @Override
+        public void setEnabled(boolean enabled) { RentalMetrics.setEnabled(enabled); }
+        @Override
+        public String dump() { return RentalMetrics.dump(); }
+        @Override
+        public void reset() { RentalMetrics.reset(); }
+    }
+}
@@ -0,0 +1,9 @@
+package carrental;
+
+// RentalMetricsMXBean interface: switches metrics on and off and dumps them over JMX
+public interface RentalMetricsMXBean {
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+    String dump();
+    void reset();
+}
@@ -0,0 +1,22 @@
+package carrental;
+
+// RentalOperation enum naming the operations RentalMetrics times
+public enum RentalOperation {
+    CREATE_RENTAL("createRental"),
+    RETURN_VEHICLE("returnVehicle"),
+    FIND_VEHICLE("findVehicle"),
+    FIND_CUSTOMER("findCustomer"),
+    FIND_RENTAL("findRental"),
+    CALCULATE_PRICE("calculateRentalPrice"),
+    QUOTE("quote"),
+    HOLD_VEHICLE("holdVehicle"),
+    CONFIRM_HOLD("confirmHold");
+
+    private final String methodName;
+
+    RentalOperation(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public String getMethodName() { return methodName; }
+}
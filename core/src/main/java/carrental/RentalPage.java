@@ -0,0 +1,22 @@
+package carrental;
+
+import java.util.Collections;
+import java.util.List;
+
+// RentalPage class holding one page of a rental history query and the cursor
+// for the next one. A null cursor means the history has been read to the end.
+public class RentalPage {
+    private final List<Rental> rentals;
+    private final String nextCursor;
+
+    // Constructor
+    RentalPage(List<Rental> rentals, String nextCursor) {
+        this.rentals = Collections.unmodifiableList(rentals);
+        this.nextCursor = nextCursor;
+    }
+
+    // Getter methods
+    public List<Rental> getRentals() { return rentals; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasMore() { return nextCursor != null; }
+}
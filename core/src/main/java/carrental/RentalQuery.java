@@ -0,0 +1,47 @@
+package carrental;
+
+import java.time.LocalDate;
+
+// RentalQuery class describing a rental history search. Every criterion is optional;
+// unset criteria match all rentals. Status is "Active" (still out, overdue ones
+// included), "Overdue" (still out after the end date) or "Completed". The date range
+// matches rentals whose booked period overlaps it.
+public class RentalQuery {
+    private String status;
+    private String customerId;
+    private LocalDate from;
+    private LocalDate to;
+
+    // Methods to set criteria; each returns this query so they can be chained
+    public RentalQuery status(String status) {
+        if (status != null && !status.equalsIgnoreCase("Active") && !status.equalsIgnoreCase("Overdue")
+                && !status.equalsIgnoreCase("Completed")) {
+            throw new IllegalArgumentException("Unknown rental status " + status);
+        }
+        this.status = status;
+        return this;
+    }
+
+    public RentalQuery customer(String customerId) { this.customerId = customerId; return this; }
+    public RentalQuery between(LocalDate from, LocalDate to) { this.from = from; this.to = to; return this; }
+
+    // Getter methods (null means "any")
+    public String getStatus() { return status; }
+    public String getCustomerId() { return customerId; }
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return to; }
+
+    // Method to test one rental against the query as of the given day
+    public boolean matches(Rental rental, LocalDate today) {
+        if (customerId != null && !customerId.equals(rental.getCustomer().getCustomerId())) return false;
+        if (from != null && rental.getEndDate().isBefore(from)) return false;
+        if (to != null && rental.getStartDate().isAfter(to)) return false;
+        if (status != null) {
+            boolean completed = rental.isCompleted();
+            if (status.equalsIgnoreCase("Completed")) return completed;
+            if (completed) return false;
+            if (status.equalsIgnoreCase("Overdue")) return today.isAfter(rental.getEndDate());
+        }
+        return true;
+    }
+}
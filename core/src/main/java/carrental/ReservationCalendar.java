@@ -0,0 +1,112 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// ReservationCalendar class keeping one vehicle's bookings as sorted date ranges.
+// Every method locks only this calendar, so bookings for different vehicles
+// never contend with each other.
+public class ReservationCalendar {
+    // Bookings keyed by start date. Ranges are half-open [startDate, endDate)
+    // and never overlap, so both starts and ends are in ascending order.
+    private TreeMap<LocalDate, Reservation> reservations;
+
+    // Constructor
+    public ReservationCalendar() {
+        this.reservations = new TreeMap<>();
+    }
+
+    // A single booked date range
+    public static class Reservation {
+        private String rentalId;
+        private LocalDate startDate;
+        private volatile LocalDate endDate; // Extended under the calendar lock
+
+        public Reservation(String rentalId, LocalDate startDate, LocalDate endDate) {
+            this.rentalId = rentalId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        public String getRentalId() { return rentalId; }
+        public LocalDate getStartDate() { return startDate; }
+        public LocalDate getEndDate() { return endDate; }
+    }
+
+    // Rentals shorter than a day are billed as one day, so they block one day too
+    public static LocalDate normalizeEndDate(LocalDate startDate, LocalDate endDate) {
+        return endDate.isAfter(startDate) ? endDate : startDate.plusDays(1);
+    }
+
+    // Method to find the booking overlapping a date range (O(log n))
+    public synchronized Reservation findConflict(LocalDate startDate, LocalDate endDate) {
+        LocalDate end = normalizeEndDate(startDate, endDate);
+        // Only the last booking starting before the range end can reach into it
+        Map.Entry<LocalDate, Reservation> candidate = reservations.lowerEntry(end);
+        if (candidate != null && candidate.getValue().getEndDate().isAfter(startDate)) {
+            return candidate.getValue();
+        }
+        return null;
+    }
+
+    // Method to check if a date range is free
+    public synchronized boolean isFree(LocalDate startDate, LocalDate endDate) {
+        return findConflict(startDate, endDate) == null;
+    }
+
+    // Method to book a date range; fails if it overlaps an existing booking
+    public synchronized boolean reserve(String rentalId, LocalDate startDate, LocalDate endDate) {
+        if (!isFree(startDate, endDate)) {
+            return false;
+        }
+        reservations.put(startDate, new Reservation(rentalId, startDate, normalizeEndDate(startDate, endDate)));
+        return true;
+    }
+
+    // Method to push a booking's end date out; fails if the added days are taken
+    public synchronized boolean extend(String rentalId, LocalDate startDate, LocalDate currentEndDate, LocalDate newEndDate) {
+        Reservation reservation = reservations.get(startDate);
+        LocalDate from = reservation != null && reservation.getRentalId().equals(rentalId)
+                ? reservation.getEndDate() : currentEndDate;
+        if (!newEndDate.isAfter(from)) {
+            return true;
+        }
+        if (!isFree(from, newEndDate)) {
+            return false;
+        }
+        if (reservation != null && reservation.getRentalId().equals(rentalId)) {
+            reservation.endDate = newEndDate;
+        }
+        return true;
+    }
+
+    // Method to move a booking's end date back, undoing an extension that did not go through
+    public synchronized void shorten(String rentalId, LocalDate startDate, LocalDate endDate) {
+        Reservation reservation = reservations.get(startDate);
+        LocalDate normalized = normalizeEndDate(startDate, endDate);
+        if (reservation != null && reservation.getRentalId().equals(rentalId)
+                && reservation.getEndDate().isAfter(normalized)) {
+            reservation.endDate = normalized;
+        }
+    }
+
+    // Method to drop a booking once its rental is over
+    public synchronized void release(String rentalId, LocalDate startDate) {
+        Reservation reservation = reservations.get(startDate);
+        if (reservation != null && reservation.getRentalId().equals(rentalId)) {
+            reservations.remove(startDate);
+        }
+    }
+
+    // Method to list bookings in date order
+    public synchronized List<Reservation> getReservations() {
+        return new ArrayList<>(reservations.values());
+    }
+
+    public synchronized int getReservationCount() {
+        return reservations.size();
+    }
+}
@@ -0,0 +1,87 @@
+package carrental;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// SymbolTable class mapping repeated strings (brands, models, colors, ...) to small
+// integer codes, each with one canonical String instance. Objects keep the code
+// instead of their own copy of the string, and equality checks compare codes.
+// Every code also has a case-folded code shared by all spellings that differ only
+// in case, for case-insensitive comparisons. Codes are never reused or removed.
+// Lookups are lock-free; adding a new value takes the table's lock.
+public final class SymbolTable {
+    public static final int NONE = -1; // Code for null, and lookup result for unknown values
+
+    private final Map<String, Integer> codes;
+    private final Map<String, Integer> foldedCodes;
+    private volatile String[] values;
+    private volatile int[] folded;
+    private int size;
+
+    // Constructor
+    public SymbolTable() {
+        this.codes = new ConcurrentHashMap<>();
+        this.foldedCodes = new ConcurrentHashMap<>();
+        this.values = new String[64];
+        this.folded = new int[64];
+    }
+
+    // Method to get the code for a value, adding it if it is new
+    public int intern(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : add(value);
+    }
+
+    // Method to get the code for a value without adding it; NONE if it is unknown
+    public int lookup(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : NONE;
+    }
+
+    // Method to get the canonical string for a code (null for NONE)
+    public String value(int code) {
+        return code == NONE ? null : values[code];
+    }
+
+    // Method to compare two codes' values ignoring case
+    public boolean equalsIgnoreCase(int code, int otherCode) {
+        if (code == NONE || otherCode == NONE) {
+            return code == otherCode;
+        }
+        int[] folded = this.folded;
+        return folded[code] == folded[otherCode];
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    private synchronized int add(String value) {
+        Integer existing = codes.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        int code = size++;
+        String[] values = this.values;
+        int[] folded = this.folded;
+        if (code == values.length) {
+            values = Arrays.copyOf(values, code * 2);
+            folded = Arrays.copyOf(folded, code * 2);
+        }
+        values[code] = value;
+        folded[code] = foldedCodes.computeIfAbsent(value.toLowerCase(Locale.ROOT), key -> code);
+        // Publish the arrays before the code can be found
+        this.values = values;
+        this.folded = folded;
+        codes.put(value, code);
+        return code;
+    }
+}
@@ -0,0 +1,46 @@
+package carrental;
+
+import java.util.Locale;
+
+// TextFormat class holding the JSON and CSV encoding shared by the HTTP API and the
+// rental exporter, so both write the same escaping and money format
+final class TextFormat {
+    private TextFormat() {
+    }
+
+    // Method to append "name":"value" with the value escaped (or null)
+    static StringBuilder jsonField(StringBuilder json, String name, String value) {
+        json.append('"').append(name).append("\":");
+        if (value == null) {
+            return json.append("null");
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"');
+    }
+
+    // Quotes a CSV field only when it needs it
+    static StringBuilder csvField(StringBuilder row, String value) {
+        if (value == null) {
+            return row;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return row.append(value);
+        }
+        return row.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    // Amounts always have two decimals and a '.' whatever the default locale
+    static String money(double amount) {
+        return String.format(Locale.ROOT, "%.2f", amount);
+    }
+}
@@ -0,0 +1,125 @@
+package carrental;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Abstract Vehicle class demonstrating Abstraction
+public abstract class Vehicle {
+    // Shared codes for the attribute strings repeated across the fleet
+    public static final SymbolTable SYMBOLS = new SymbolTable();
+
+    // Private fields demonstrating Encapsulation
+    private String vehicleId;
+    private int brand;  // Codes in SYMBOLS
+    private int model;
+    private int year;
+    private int color;
+    private double mileage;
+    private AtomicBoolean isAvailable; // Claimed with compare-and-set so two bookings can't both win
+    private double basePricePerDay;
+    private ReservationCalendar reservationCalendar;
+    private volatile RentalAgency owner; // Agency notified when availability flips
+    private volatile RateCard rateCard;  // Pricing rules resolved by the subclass
+
+    // Constructor
+    public Vehicle(String vehicleId, String brand, String model, int year,
+                   String color, double mileage, double basePricePerDay) {
+        this.vehicleId = vehicleId;
+        this.brand = SYMBOLS.intern(brand);
+        this.model = SYMBOLS.intern(model);
+        this.year = year;
+        this.color = SYMBOLS.intern(color);
+        this.mileage = mileage;
+        this.basePricePerDay = basePricePerDay;
+        this.isAvailable = new AtomicBoolean(true);
+        this.reservationCalendar = new ReservationCalendar();
+    }
+
+    // Getter methods (Encapsulation)
+    public String getVehicleId() { return vehicleId; }
+    public String getBrand() { return SYMBOLS.value(brand); }
+    public String getModel() { return SYMBOLS.value(model); }
+    public int getYear() { return year; }
+    public String getColor() { return SYMBOLS.value(color); }
+    public double getMileage() { return mileage; }
+    public boolean isAvailable() { return isAvailable.get(); }
+    public double getBasePricePerDay() { return basePricePerDay; }
+    public ReservationCalendar getReservationCalendar() { return reservationCalendar; }
+    public RateCard getRateCard() { return rateCard; }
+    int getBrandCode() { return brand; }
+    int getModelCode() { return model; }
+    int getColorCode() { return color; }
+
+    // Setter methods (Encapsulation)
+    public void setAvailable(boolean available) {
+        if (isAvailable.getAndSet(available) != available) {
+            notifyOwner(available);
+        }
+    }
+    public void setMileage(double mileage) {
+        this.mileage = mileage;
+        notifyOwnerOfChange();
+    }
+    public void setBasePricePerDay(double basePricePerDay) {
+        this.basePricePerDay = basePricePerDay;
+        reprice();
+        notifyOwnerOfChange();
+    }
+
+    // Method to rebuild the rate card; subclasses call it once their fields are set
+    protected final void reprice() {
+        rateCard = buildRateCard();
+    }
+
+    // Abstract methods - must be implemented by subclasses
+    public abstract void displayVehicleInfo();
+    public abstract double calculateRentalPrice(int days);
+    protected abstract RateCard buildRateCard();
+    public abstract String getVehicleType();
+    public abstract VehicleType getType();
+
+    // Common method for renting; returns false if another caller got the vehicle first
+    public boolean rentVehicle() {
+        if (isAvailable.compareAndSet(true, false)) {
+            notifyOwner(false);
+            RentalEvents.emit(RentalEventType.VEHICLE_RENTED, this);
+            return true;
+        } else {
+            RentalEvents.emit(RentalEventType.VEHICLE_NOT_AVAILABLE, this);
+            return false;
+        }
+    }
+
+    // Common method for returning
+    public void returnVehicle() {
+        setAvailable(true);
+        RentalEvents.emit(RentalEventType.VEHICLE_RETURNED, this);
+    }
+
+    // Owner hooks used by RentalAgency to keep its counters in step
+    void setOwner(RentalAgency owner) { this.owner = owner; }
+
+    private void notifyOwner(boolean available) {
+        RentalAgency agency = owner;
+        if (agency != null) {
+            agency.vehicleAvailabilityChanged(this, available);
+        }
+    }
+
+    private void notifyOwnerOfChange() {
+        RentalAgency agency = owner;
+        if (agency != null) {
+            agency.vehicleChanged(this);
+        }
+    }
+
+    // Common method to check the booking calendar for a date range
+    public boolean isAvailableFor(LocalDate startDate, LocalDate endDate) {
+        return reservationCalendar.isFree(startDate, endDate);
+    }
+
+    // Common method to get vehicle summary
+    public String getVehicleSummary() {
+        return year + " " + getBrand() + " " + getModel() + " (" + getColor() + ")";
+    }
+}
@@ -0,0 +1,111 @@
+package carrental;
+
+// VehicleQuery class describing a fleet search. Every criterion is optional;
+// unset criteria match all vehicles. String criteria match exactly. Fuel,
+// transmission, doors and air conditioning only exist on cars, so setting any of
+// them excludes motorcycles; engine size and power category likewise exclude cars.
+// String criteria are resolved to symbol codes when set, so matching compares codes.
+public class VehicleQuery {
+    private VehicleType type;
+    private String brand;
+    private String model;
+    private String color;
+    private String fuelType;
+    private String transmissionType;
+    private int minYear = Integer.MIN_VALUE;
+    private int maxYear = Integer.MAX_VALUE;
+    private double maxMileage = Double.POSITIVE_INFINITY;
+    private double minPrice = Double.NEGATIVE_INFINITY;
+    private double maxPrice = Double.POSITIVE_INFINITY;
+    private Integer numberOfDoors;
+    private Boolean airConditioning;
+    private int minEngineSize = Integer.MIN_VALUE;
+    private int maxEngineSize = Integer.MAX_VALUE;
+    private String powerCategory;
+    private boolean availableOnly;
+    private int brandCode = SymbolTable.NONE;
+    private int modelCode = SymbolTable.NONE;
+    private int colorCode = SymbolTable.NONE;
+    private int fuelTypeCode = SymbolTable.NONE;
+    private int transmissionTypeCode = SymbolTable.NONE;
+
+    // Methods to set criteria; each returns this query so they can be chained
+    public VehicleQuery type(VehicleType type) { this.type = type; return this; }
+    public VehicleQuery brand(String brand) { this.brand = brand; brandCode = Vehicle.SYMBOLS.lookup(brand); return this; }
+    public VehicleQuery model(String model) { this.model = model; modelCode = Vehicle.SYMBOLS.lookup(model); return this; }
+    public VehicleQuery color(String color) { this.color = color; colorCode = Vehicle.SYMBOLS.lookup(color); return this; }
+    public VehicleQuery fuelType(String fuelType) { this.fuelType = fuelType; fuelTypeCode = Vehicle.SYMBOLS.lookup(fuelType); return this; }
+    public VehicleQuery transmissionType(String transmissionType) { this.transmissionType = transmissionType; transmissionTypeCode = Vehicle.SYMBOLS.lookup(transmissionType); return this; }
+    public VehicleQuery yearBetween(int minYear, int maxYear) { this.minYear = minYear; this.maxYear = maxYear; return this; }
+    public VehicleQuery maxMileage(double maxMileage) { this.maxMileage = maxMileage; return this; }
+    public VehicleQuery priceBetween(double minPrice, double maxPrice) { this.minPrice = minPrice; this.maxPrice = maxPrice; return this; }
+    public VehicleQuery numberOfDoors(int numberOfDoors) { this.numberOfDoors = numberOfDoors; return this; }
+    public VehicleQuery airConditioning(boolean airConditioning) { this.airConditioning = airConditioning; return this; }
+    public VehicleQuery engineSizeBetween(int minEngineSize, int maxEngineSize) { this.minEngineSize = minEngineSize; this.maxEngineSize = maxEngineSize; return this; }
+    public VehicleQuery powerCategory(String powerCategory) { this.powerCategory = powerCategory; return this; }
+    public VehicleQuery availableOnly() { this.availableOnly = true; return this; }
+
+    // Getter methods (null or an infinite bound means "any")
+    public VehicleType getType() { return type; }
+    public String getBrand() { return brand; }
+    public String getModel() { return model; }
+    public String getColor() { return color; }
+    public String getFuelType() { return fuelType; }
+    public String getTransmissionType() { return transmissionType; }
+    public int getMinYear() { return minYear; }
+    public int getMaxYear() { return maxYear; }
+    public double getMaxMileage() { return maxMileage; }
+    public double getMinPrice() { return minPrice; }
+    public double getMaxPrice() { return maxPrice; }
+    public Integer getNumberOfDoors() { return numberOfDoors; }
+    public Boolean getAirConditioning() { return airConditioning; }
+    public int getMinEngineSize() { return minEngineSize; }
+    public int getMaxEngineSize() { return maxEngineSize; }
+    public String getPowerCategory() { return powerCategory; }
+    public boolean isAvailableOnly() { return availableOnly; }
+
+    // Methods to tell whether any criterion limits the query to one vehicle type
+    public boolean hasCarCriteria() {
+        return fuelType != null || transmissionType != null || numberOfDoors != null || airConditioning != null;
+    }
+
+    public boolean hasMotorcycleCriteria() {
+        return minEngineSize != Integer.MIN_VALUE || maxEngineSize != Integer.MAX_VALUE || powerCategory != null;
+    }
+
+    // Method to test one vehicle object against the query
+    public boolean matches(Vehicle vehicle) {
+        if (availableOnly && !vehicle.isAvailable()) return false;
+        if (type != null && vehicle.getType() != type) return false;
+        if (vehicle.getYear() < minYear || vehicle.getYear() > maxYear) return false;
+        if (vehicle.getMileage() > maxMileage) return false;
+        if (vehicle.getBasePricePerDay() < minPrice || vehicle.getBasePricePerDay() > maxPrice) return false;
+        if (brand != null && vehicle.getBrandCode() != code(brand, brandCode)) return false;
+        if (model != null && vehicle.getModelCode() != code(model, modelCode)) return false;
+        if (color != null && vehicle.getColorCode() != code(color, colorCode)) return false;
+        if (hasCarCriteria()) {
+            if (!(vehicle instanceof Car)) return false;
+            Car car = (Car) vehicle;
+            if (fuelType != null && car.getFuelTypeCode() != code(fuelType, fuelTypeCode)) return false;
+            if (transmissionType != null && car.getTransmissionTypeCode() != code(transmissionType, transmissionTypeCode)) return false;
+            if (numberOfDoors != null && car.getNumberOfDoors() != numberOfDoors) return false;
+            if (airConditioning != null && car.hasAirConditioning() != airConditioning) return false;
+        }
+        if (hasMotorcycleCriteria()) {
+            if (!(vehicle instanceof Motorcycle)) return false;
+            Motorcycle motorcycle = (Motorcycle) vehicle;
+            if (motorcycle.getEngineSize() < minEngineSize || motorcycle.getEngineSize() > maxEngineSize) return false;
+            if (powerCategory != null && !powerCategory.equals(motorcycle.getPowerCategory())) return false;
+        }
+        return true;
+    }
+
+    // A value no vehicle had when the criterion was set may have been added since;
+    // a value still unknown gets a code no vehicle has (not even one lacking the attribute)
+    private static int code(String value, int code) {
+        if (code == SymbolTable.NONE) {
+            code = Vehicle.SYMBOLS.lookup(value);
+        }
+        return code != SymbolTable.NONE ? code : Integer.MIN_VALUE;
+    }
+}
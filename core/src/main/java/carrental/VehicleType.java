@@ -0,0 +1,25 @@
+package carrental;
+
+// VehicleType enum naming the kinds of vehicle the fleet can hold
+public enum VehicleType {
+    CAR("Car"),
+    MOTORCYCLE("Motorcycle");
+
+    private final String displayName;
+
+    VehicleType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() { return displayName; }
+
+    // Method to look up a type by its display name, ignoring case; null if unknown
+    public static VehicleType fromName(String name) {
+        for (VehicleType type : values()) {
+            if (type.displayName.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}